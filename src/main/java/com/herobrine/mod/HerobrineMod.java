@@ -10,6 +10,9 @@ import com.herobrine.mod.util.entities.EntityRegistry;
 import com.herobrine.mod.util.items.ArmorMaterialList;
 import com.herobrine.mod.util.items.ItemList;
 import com.herobrine.mod.util.items.ItemTierList;
+import com.herobrine.mod.util.network.MessageBundle;
+import com.herobrine.mod.util.network.OutboundQueue;
+import com.herobrine.mod.util.savedata.DimensionState;
 import com.herobrine.mod.util.savedata.Variables;
 import com.herobrine.mod.util.worldgen.BiomeInit;
 import com.herobrine.mod.worldgen.structures.ShrineRemnants;
@@ -18,16 +21,13 @@ import com.herobrine.mod.worldgen.structures.SurvivorBase;
 import com.herobrine.mod.worldgen.structures.TrappedHouse;
 import net.minecraft.block.Block;
 import net.minecraft.entity.EntityType;
-import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.item.*;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.biome.Biome;
-import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.RegistryEvent;
-import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.ModLoadingContext;
@@ -38,7 +38,6 @@ import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.minecraftforge.fml.network.NetworkEvent;
 import net.minecraftforge.fml.network.NetworkRegistry;
-import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -51,7 +50,7 @@ import java.util.function.Supplier;
 @Mod.EventBusSubscriber(modid = HerobrineMod.MODID, bus = Mod.EventBusSubscriber.Bus.MOD)
 public class HerobrineMod {
     public static final String MODID = "herobrine";
-    private static final String PROTOCOL_VERSION = "1";
+    private static final String PROTOCOL_VERSION = "3";
     public static final SimpleChannel PACKET_HANDLER = NetworkRegistry.newSimpleChannel(new ResourceLocation(MODID, MODID), () -> PROTOCOL_VERSION, PROTOCOL_VERSION::equals, PROTOCOL_VERSION::equals);
 
     public HerobrineMod() {
@@ -61,6 +60,9 @@ public class HerobrineMod {
         FMLJavaModLoadingContext.get().getModEventBus().register(this);
         BiomeInit.BIOMES.register(modEventBus);
         this.addNetworkMessage(Variables.WorldSavedDataSyncMessage.class, Variables.WorldSavedDataSyncMessage::buffer, Variables.WorldSavedDataSyncMessage::new, Variables.WorldSavedDataSyncMessage::handler);
+        OutboundQueue.registerCoalescing(Variables.WorldSavedDataSyncMessage.class, Variables.WorldSavedDataSyncMessage::merge);
+        //Registered last and straight on the channel, a bundle can never contain another bundle.
+        PACKET_HANDLER.registerMessage(messageID++, MessageBundle.class, MessageBundle::buffer, MessageBundle::new, MessageBundle::handler);
         ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, Config.COMMON_SPEC, MODID + "-" + "common.toml");
         MinecraftForge.EVENT_BUS.register(this);
     }
@@ -69,6 +71,7 @@ public class HerobrineMod {
 
     public <T> void addNetworkMessage(Class<T> messageType, BiConsumer<T, PacketBuffer> encoder, Function<PacketBuffer, T> decoder, BiConsumer<T, Supplier<NetworkEvent.Context>> messageConsumer) {
         PACKET_HANDLER.registerMessage(messageID, messageType, encoder, decoder, messageConsumer);
+        MessageBundle.register(messageType, encoder, decoder, messageConsumer);
         messageID++;
     }
 
@@ -88,6 +91,7 @@ public class HerobrineMod {
         Statue.registerStructure();
         SurvivorBase.registerStructure();
         EntityRegistry.registerSpawnPlacement();
+        DimensionState.register();
     }
 
     @Mod.EventBusSubscriber(bus = Mod.EventBusSubscriber.Bus.MOD)
@@ -162,17 +166,5 @@ public class HerobrineMod {
         public static void registerBiomes(@NotNull final RegistryEvent.Register<Biome> event) {
             BiomeInit.registerBiomes();
         }
-
-        @SubscribeEvent
-        public void onPlayerLoggedIn(PlayerEvent.@NotNull PlayerLoggedInEvent event) {
-            WorldSavedData saveData = Variables.SaveData.get(event.getPlayer().world);
-            HerobrineMod.PACKET_HANDLER.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity) event.getPlayer()), new Variables.WorldSavedDataSyncMessage(saveData));
-        }
-
-        @SubscribeEvent
-        public void onPlayerChangedDimension(PlayerEvent.@NotNull PlayerChangedDimensionEvent event) {
-            WorldSavedData saveData = Variables.SaveData.get(event.getPlayer().world);
-            HerobrineMod.PACKET_HANDLER.send(PacketDistributor.PLAYER.with(() -> (ServerPlayerEntity) event.getPlayer()), new Variables.WorldSavedDataSyncMessage(saveData));
-        }
     }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.herobrine.mod.blocks;
 
 import com.herobrine.mod.HerobrineMod;
-import com.herobrine.mod.config.Config;
+import com.herobrine.mod.config.ConfigSnapshot;
 import com.herobrine.mod.util.blocks.BlockMaterialList;
 import com.herobrine.mod.util.blocks.ModBlockStates;
 import com.herobrine.mod.util.items.ItemList;
@@ -160,7 +160,7 @@ public class HerobrineAlter extends Block implements IWaterLoggable {
         int x = pos.getX();
         int y = pos.getY();
         int z = pos.getZ();
-        if(!Config.COMMON.AltarRequiresShrine.get()) {
+        if(!ConfigSnapshot.get().AltarRequiresShrine) {
             return true;
         } else {
             return world.getBlockState(new BlockPos(x, y - 1, z)) == Blocks.NETHERRACK.getDefaultState() && world.getBlockState(new BlockPos(x, y - 1, z + 1)) == Blocks.GOLD_BLOCK.getDefaultState() && world.getBlockState(new BlockPos(x, y - 1, z - 1)) == Blocks.GOLD_BLOCK.getDefaultState() && world.getBlockState(new BlockPos(x + 1, y - 1, z)) == Blocks.GOLD_BLOCK.getDefaultState() && world.getBlockState(new BlockPos(x - 1, y - 1, z)) == Blocks.GOLD_BLOCK.getDefaultState() && world.getBlockState(new BlockPos(x + 1, y, z)) == Blocks.REDSTONE_TORCH.getDefaultState() && world.getBlockState(new BlockPos(x - 1, y, z)) == Blocks.REDSTONE_TORCH.getDefaultState() && world.getBlockState(new BlockPos(x, y, z + 1)) == Blocks.REDSTONE_TORCH.getDefaultState() && world.getBlockState(new BlockPos(x, y, z - 1)) == Blocks.REDSTONE_TORCH.getDefaultState() && world.getBlockState(new BlockPos(x - 1, y - 1, z - 1)) == Blocks.LAVA.getDefaultState() && world.getBlockState(new BlockPos(x + 1, y - 1, z + 1)) == Blocks.LAVA.getDefaultState() && world.getBlockState(new BlockPos(x + 1, y - 1, z - 1)) == Blocks.LAVA.getDefaultState() && world.getBlockState(new BlockPos(x - 1, y - 1, z + 1)) == Blocks.LAVA.getDefaultState();
@@ -170,7 +170,6 @@ public class HerobrineAlter extends Block implements IWaterLoggable {
     @NotNull
     @Override
     public ActionResultType onBlockActivated(@NotNull BlockState state, @NotNull World world, @NotNull BlockPos pos, @NotNull PlayerEntity player, @NotNull Hand hand, @NotNull BlockRayTraceResult hit) {
-        Variables.SaveData.get(world).syncData(world);
         ItemStack itemStack = player.getHeldItem(hand);
         if(this.shrineAccepted(pos, world)) {
             int i = state.get(ModBlockStates.TYPE);
@@ -187,12 +186,9 @@ public class HerobrineAlter extends Block implements IWaterLoggable {
                     if (world instanceof ServerWorld) {
                         ((ServerWorld) world).addLightningBolt(new LightningBoltEntity(world, pos.getX(), pos.getY(), pos.getZ(), false));
                     }
-                    if(!Variables.SaveData.get(world).Spawn) {
-                        if (world.isRemote) {
-                            player.sendMessage(new StringTextComponent("<Herobrine> You have no idea what you have done!"));
-                        }
-                        Variables.SaveData.get(world).Spawn = true;
-                        Variables.SaveData.get(world).syncData(world);
+                    //Only the server changes the altar flag, clients hear about it from SaveDataSync.
+                    if (!world.isRemote && Variables.SaveData.get(world).setSpawn(true)) {
+                        player.sendMessage(new StringTextComponent("<Herobrine> You have no idea what you have done!"));
                     }
                 }
                 if(itemStack.getItem() == ItemList.purified_diamond) {
@@ -207,12 +203,8 @@ public class HerobrineAlter extends Block implements IWaterLoggable {
                     if (world instanceof ServerWorld) {
                         ((ServerWorld) world).addLightningBolt(new LightningBoltEntity(world, pos.getX(), pos.getY(), pos.getZ(), false));
                     }
-                    if(Variables.SaveData.get(world).Spawn) {
-                        if (world.isRemote) {
-                            player.sendMessage(new StringTextComponent("<Herobrine> I shall return!"));
-                        }
-                        Variables.SaveData.get(world).Spawn = false;
-                        Variables.SaveData.get(world).syncData(world);
+                    if (!world.isRemote && Variables.SaveData.get(world).setSpawn(false)) {
+                        player.sendMessage(new StringTextComponent("<Herobrine> I shall return!"));
                     }
                 }
             } else return ActionResultType.FAIL;
@@ -0,0 +1,25 @@
+package com.herobrine.mod.client.models;
+
+import com.herobrine.mod.entities.FakeHerobrineMageEntity;
+import net.minecraft.client.renderer.entity.model.BipedModel;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.jetbrains.annotations.NotNull;
+
+//The mage model for an illusion, which is not a monster so it can't use the zombie model.
+//It always holds its arms up like an attacking mage.
+@OnlyIn(Dist.CLIENT)
+public class FakeHerobrineMageEntityModel extends BipedModel<FakeHerobrineMageEntity> {
+    public FakeHerobrineMageEntityModel(float modelSize) {
+        super(modelSize, 0.0F, 64, 64);
+    }
+
+    @Override
+    public void setRotationAngles(@NotNull FakeHerobrineMageEntity entityIn, float limbSwing, float limbSwingAmount, float ageInTicks, float netHeadYaw, float headPitch) {
+        super.setRotationAngles(entityIn, limbSwing, limbSwingAmount, ageInTicks, netHeadYaw, headPitch);
+        this.bipedRightArm.rotateAngleY = -0.1F;
+        this.bipedLeftArm.rotateAngleY = 0.1F;
+        this.bipedRightArm.rotateAngleX = -(float) Math.PI / 1.5F;
+        this.bipedLeftArm.rotateAngleX = -(float) Math.PI / 1.5F;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.herobrine.mod.client.renders;
+
+import com.herobrine.mod.HerobrineMod;
+import com.herobrine.mod.client.models.FakeHerobrineMageEntityModel;
+import com.herobrine.mod.entities.FakeHerobrineMageEntity;
+import net.minecraft.client.renderer.entity.EntityRenderer;
+import net.minecraft.client.renderer.entity.EntityRendererManager;
+import net.minecraft.client.renderer.entity.LivingRenderer;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.client.registry.IRenderFactory;
+import org.jetbrains.annotations.NotNull;
+
+@OnlyIn(Dist.CLIENT)
+public class FakeHerobrineMageEntityRender extends LivingRenderer<FakeHerobrineMageEntity, FakeHerobrineMageEntityModel> {
+    private FakeHerobrineMageEntityRender(EntityRendererManager manager) {
+        super(manager, new FakeHerobrineMageEntityModel(0.0F), 0.5F);
+    }
+
+    @NotNull
+    @Override
+    public ResourceLocation getEntityTexture(@NotNull FakeHerobrineMageEntity entity) {
+        return HerobrineMod.location("textures/entity/herobrine.png");
+    }
+
+    //Same as for mobs, otherwise every illusion would show its name and give itself away.
+    @Override
+    protected boolean canRenderName(@NotNull FakeHerobrineMageEntity entity) {
+        return super.canRenderName(entity) && (entity.getAlwaysRenderNameTagForRender() || entity.hasCustomName() && entity == this.renderManager.pointedEntity);
+    }
+
+    @SuppressWarnings("rawtypes")
+    public static class RenderFactory implements IRenderFactory {
+        @Override
+        public EntityRenderer<? super FakeHerobrineMageEntity> createRenderFor(EntityRendererManager manager) {
+            return new FakeHerobrineMageEntityRender(manager);
+        }
+    }
+}
\ No newline at end of file
@@ -1,11 +1,18 @@
 package com.herobrine.mod.config;
 
 import com.herobrine.mod.HerobrineMod;
+import com.herobrine.mod.util.entities.SpawnTableReloader;
+import com.herobrine.mod.util.savedata.HerobrineActivation;
 import net.minecraftforge.common.ForgeConfigSpec;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.config.ModConfig;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Mod.EventBusSubscriber(modid = HerobrineMod.MODID, bus = Mod.EventBusSubscriber.Bus.MOD)
 public class Config {
     public static class CommonConfig {
@@ -25,26 +32,30 @@ public class Config {
         public final ForgeConfigSpec.IntValue HerobrineMageWeight;
         public final ForgeConfigSpec.IntValue InfectedMobWeight;
         public final ForgeConfigSpec.IntValue HerobrineSpyObservationDistance;
+        public final ForgeConfigSpec.ConfigValue<List<? extends String>> ActivationRanges;
+        public final ForgeConfigSpec.IntValue LookRefreshInterval;
         public CommonConfig(ForgeConfigSpec.@NotNull Builder builder) {
             builder.comment("Common config file for The Legend of Herobrine Minecraft mod.").push("entity_config");
             WarriorBreaksBlocks = builder.comment("Determines if the Herobrine warrior can break blocks.").worldRestart().define("WarriorBreaksBlocks", true);
             HerobrineAlwaysSpawns = builder.comment("If set to true Herobrine and infected mobs can exist even if Altar of Herobrine is not activated in a world.").worldRestart().define("HerobrineAlwaysSpawns", false);
             BuilderBuilds = builder.comment("Determines if the Herobrine Builder builds structures.").worldRestart().define("BuilderBuilds", true);
-            HerobrineWarriorWeight = builder.comment("The spawn weight of the Herobrine warrior. Higher values makes it more common, while 0 disables it.").worldRestart().defineInRange("HerobrineWarriorWeight", 20, 0, 1024);
-            HerobrineSpyWeight = builder.comment("The spawn weight of the Herobrine spy. Higher values makes it more common, while 0 disables it.").worldRestart().defineInRange("HerobrineSpyWeight", 35, 0, 1024);
-            HerobrineBuilderWeight = builder.comment("The spawn weight of the Herobrine builder. Higher values makes it more common, while 0 disables it.").worldRestart().defineInRange("HerobrineBuilderWeight", 30, 0, 1024);
-            HerobrineMageWeight = builder.comment("The spawn weight of the Herobrine mage. Higher values makes it more common, while 0 disables it.").worldRestart().defineInRange("HerobrineMageWeight", 25, 0, 1024);
-            InfectedMobWeight = builder.comment("The spawn weight of Infected mobs. Higher values makes them more common, while 0 disables them.").worldRestart().defineInRange("InfectedMobWeight", 30, 0, 1024);
+            HerobrineWarriorWeight = builder.comment("The spawn weight of the Herobrine warrior. Higher values makes it more common, while 0 disables it.").defineInRange("HerobrineWarriorWeight", 20, 0, 1024);
+            HerobrineSpyWeight = builder.comment("The spawn weight of the Herobrine spy. Higher values makes it more common, while 0 disables it.").defineInRange("HerobrineSpyWeight", 35, 0, 1024);
+            HerobrineBuilderWeight = builder.comment("The spawn weight of the Herobrine builder. Higher values makes it more common, while 0 disables it.").defineInRange("HerobrineBuilderWeight", 30, 0, 1024);
+            HerobrineMageWeight = builder.comment("The spawn weight of the Herobrine mage. Higher values makes it more common, while 0 disables it.").defineInRange("HerobrineMageWeight", 25, 0, 1024);
+            InfectedMobWeight = builder.comment("The spawn weight of Infected mobs. Higher values makes them more common, while 0 disables them.").defineInRange("InfectedMobWeight", 30, 0, 1024);
             HerobrineSpyObservationDistance = builder.comment("The distance in blocks the Herobrine spy observes the player from.").worldRestart().defineInRange("HerobrineSpyObservationDistance", 32, 0, 64);
+            ActivationRanges = builder.comment("How far from a player Herobrine and infected mobs are ticked, written as entity=full,reduced in blocks. Mobs within the first range tick normally, mobs within the second range tick every other tick and mobs further away only count down their timers. The first range can't be larger than the second, and both are at most 999999. The default entry is used for every mob without its own entry.").defineList("ActivationRanges", Arrays.asList("default=32,64", "herobrine:herobrine_spy=64,96", "herobrine:infected_bat=16,32"), Config::isActivationRange);
+            LookRefreshInterval = builder.comment("How many ticks a mod mob remembers the nearest entity it wants to look at before it searches again. Higher values mean fewer searches, but mobs take longer to notice something new.").defineInRange("LookRefreshInterval", 20, 1, 200);
             builder.pop();
             builder.push("biome_config");
             CursedForestWeight = builder.comment("The spawn weight of the Cursed Forest biome. Greater values make the biome more common. Setting the value to 0 disables the biome, while 1024 makes the entire world a Cursed Forest.").worldRestart().defineInRange("CursedForestWeight", 3, 0, 1024);
             builder.pop();
             builder.push("structure_config");
-            TrappedHouseWeight = builder.comment("The spawn weight of the Trapped House structure. Greater values make the structure more common. Setting the value to 0 disables the structure, while 1000000 covers the entire world in Suspicious Houses.").worldRestart().defineInRange("TrappedHouseWeight", 550, 0, 1000000);
-            ShrineRemnantWeight = builder.comment("The spawn weight of the Shrine Remnant Structure. Greater values make the structure more common. Setting the value to 0 disables the structure, while 1000000 covers the entire world in Shrine Remnants.").worldRestart().defineInRange("ShrineRemnantWeight", 5000, 0, 1000000);
-            HerobrineStatueWeight = builder.comment("The spawn weight of the Herobrine Statue Structure. Greater values make the structure more common. Setting the value to 0 disables the structure, while 1000000 covers the entire world in Herobrine Statues.").worldRestart().defineInRange("HerobrineStatueWeight", 20000, 0, 1000000);
-            SurvivorBaseWeight = builder.comment("The spawn weight of the Survivor Base Structure. Greater values make the structure more common. Setting the value to 0 disables the structure, while 1000000 covers the entire world in Survivor Bases.").worldRestart().defineInRange("SurvivorBaseWeight", 1500, 0, 1000000);
+            TrappedHouseWeight = builder.comment("The spawn weight of the Trapped House structure. Greater values make the structure more common. Setting the value to 0 disables the structure, while 1000000 covers the entire world in Suspicious Houses.").defineInRange("TrappedHouseWeight", 550, 0, 1000000);
+            ShrineRemnantWeight = builder.comment("The spawn weight of the Shrine Remnant Structure. Greater values make the structure more common. Setting the value to 0 disables the structure, while 1000000 covers the entire world in Shrine Remnants.").defineInRange("ShrineRemnantWeight", 5000, 0, 1000000);
+            HerobrineStatueWeight = builder.comment("The spawn weight of the Herobrine Statue Structure. Greater values make the structure more common. Setting the value to 0 disables the structure, while 1000000 covers the entire world in Herobrine Statues.").defineInRange("HerobrineStatueWeight", 20000, 0, 1000000);
+            SurvivorBaseWeight = builder.comment("The spawn weight of the Survivor Base Structure. Greater values make the structure more common. Setting the value to 0 disables the structure, while 1000000 covers the entire world in Survivor Bases.").defineInRange("SurvivorBaseWeight", 1500, 0, 1000000);
             builder.pop();
             builder.push("item_config");
             BedrockSwordDrops = builder.comment("Determines if the Bedrock Sword can be obtained in Survival as an extremely rare drop from the Herobrine Warrior.").worldRestart().define("BedrockSwordDrops", false);
@@ -54,6 +65,16 @@ public class Config {
             builder.pop();
         }
     }
+    //Entries that don't pass are dropped by Forge with a warning when the config loads.
+    //At most six digits per range, so ConfigSnapshot can always parse them as an int.
+    private static boolean isActivationRange(Object entry) {
+        if (!(entry instanceof String) || !((String) entry).matches("[a-z0-9_.:-]+=\\d{1,6},\\d{1,6}")) {
+            return false;
+        }
+        String[] ranges = ((String) entry).split("=")[1].split(",");
+        return Integer.parseInt(ranges[0]) <= Integer.parseInt(ranges[1]);
+    }
+
     public static final ForgeConfigSpec COMMON_SPEC;
     public static final CommonConfig COMMON;
     static {
@@ -61,4 +82,21 @@ public class Config {
         COMMON_SPEC = specPair.getRight();
         COMMON = specPair.getLeft();
     }
+
+    @SubscribeEvent
+    public static void onConfigLoading(final ModConfig.@NotNull Loading event) {
+        if (event.getConfig().getSpec() == COMMON_SPEC) {
+            ConfigSnapshot.rebuild();
+            HerobrineActivation.onConfigChanged();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onConfigReloading(final ModConfig.@NotNull ConfigReloading event) {
+        if (event.getConfig().getSpec() == COMMON_SPEC) {
+            ConfigSnapshot.rebuild();
+            HerobrineActivation.onConfigChanged();
+            SpawnTableReloader.requestRecompile();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.herobrine.mod.config;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+//Plain copy of the common config values. Gameplay code reads this instead of the ForgeConfigSpec values,
+//which look the value up in the config every time.
+//A new snapshot is built every time the config is loaded or reloaded, a snapshot itself never changes.
+public final class ConfigSnapshot {
+    private static volatile ConfigSnapshot current;
+
+    public final boolean WarriorBreaksBlocks;
+    public final boolean HerobrineAlwaysSpawns;
+    public final int CursedForestWeight;
+    public final int TrappedHouseWeight;
+    public final boolean BuilderBuilds;
+    public final boolean BedrockSwordDrops;
+    public final boolean AltarRequiresShrine;
+    public final int ShrineRemnantWeight;
+    public final int HerobrineStatueWeight;
+    public final int SurvivorBaseWeight;
+    public final int HerobrineWarriorWeight;
+    public final int HerobrineSpyWeight;
+    public final int HerobrineBuilderWeight;
+    public final int HerobrineMageWeight;
+    public final int InfectedMobWeight;
+    public final int HerobrineSpyObservationDistance;
+    //Keyed by entity id, or "default".
+    public final Map<String, ActivationRange> ActivationRanges;
+    public final int LookRefreshInterval;
+
+    public static final class ActivationRange {
+        //Used if there is not even a default entry, every mob ticks fully.
+        public static final ActivationRange ALWAYS = new ActivationRange(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        public final int full;
+        public final int reduced;
+
+        private ActivationRange(int full, int reduced) {
+            this.full = full;
+            this.reduced = reduced;
+        }
+    }
+
+    private ConfigSnapshot(Config.@NotNull CommonConfig config) {
+        WarriorBreaksBlocks = config.WarriorBreaksBlocks.get();
+        HerobrineAlwaysSpawns = config.HerobrineAlwaysSpawns.get();
+        CursedForestWeight = config.CursedForestWeight.get();
+        TrappedHouseWeight = config.TrappedHouseWeight.get();
+        BuilderBuilds = config.BuilderBuilds.get();
+        BedrockSwordDrops = config.BedrockSwordDrops.get();
+        AltarRequiresShrine = config.AltarRequiresShrine.get();
+        ShrineRemnantWeight = config.ShrineRemnantWeight.get();
+        HerobrineStatueWeight = config.HerobrineStatueWeight.get();
+        SurvivorBaseWeight = config.SurvivorBaseWeight.get();
+        HerobrineWarriorWeight = config.HerobrineWarriorWeight.get();
+        HerobrineSpyWeight = config.HerobrineSpyWeight.get();
+        HerobrineBuilderWeight = config.HerobrineBuilderWeight.get();
+        HerobrineMageWeight = config.HerobrineMageWeight.get();
+        InfectedMobWeight = config.InfectedMobWeight.get();
+        HerobrineSpyObservationDistance = config.HerobrineSpyObservationDistance.get();
+        Map<String, ActivationRange> activationRanges = new HashMap<>();
+        //The config only accepts entries of the form entity=full,reduced, with full no larger than reduced.
+        for (String entry : config.ActivationRanges.get()) {
+            String[] keyAndRanges = entry.split("=");
+            String[] ranges = keyAndRanges[1].split(",");
+            activationRanges.put(keyAndRanges[0], new ActivationRange(Integer.parseInt(ranges[0]), Integer.parseInt(ranges[1])));
+        }
+        ActivationRanges = Collections.unmodifiableMap(activationRanges);
+        LookRefreshInterval = config.LookRefreshInterval.get();
+    }
+
+    public static @NotNull ConfigSnapshot get() {
+        ConfigSnapshot snapshot = current;
+        //Only happens if something reads the config before the loading event, the config values are loaded by then anyway.
+        if (snapshot == null) {
+            snapshot = rebuild();
+        }
+        return snapshot;
+    }
+
+    static @NotNull ConfigSnapshot rebuild() {
+        ConfigSnapshot snapshot = new ConfigSnapshot(Config.COMMON);
+        current = snapshot;
+        return snapshot;
+    }
+}
@@ -1,96 +1,149 @@
 package com.herobrine.mod.entities;
 
-import com.herobrine.mod.config.Config;
+import com.herobrine.mod.util.entities.DamageImmunity;
+import com.herobrine.mod.util.entities.ModEntityIndex;
+import com.herobrine.mod.util.entities.TickActivation;
 import com.herobrine.mod.util.items.ItemList;
 import com.herobrine.mod.util.loot_tables.LootTableInit;
-import com.herobrine.mod.util.savedata.Variables;
-import net.minecraft.entity.AreaEffectCloudEntity;
+import com.herobrine.mod.util.savedata.HerobrineActivation;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.SpawnReason;
 import net.minecraft.entity.monster.MonsterEntity;
-import net.minecraft.entity.projectile.PotionEntity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.particles.IParticleData;
+import net.minecraft.particles.ParticleTypes;
+import net.minecraft.potion.Effect;
+import net.minecraft.potion.EffectInstance;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.SoundEvents;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.Difficulty;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.LightType;
 import net.minecraft.world.World;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 public class AbstractHerobrineEntity extends MonsterEntity {
+    //Entity status ids, the server sends them when a timer runs so the client plays the effect at the same time.
+    protected static final byte EXPIRE_EFFECT = 100;
+    protected static final byte CAST_EFFECT = 101;
+    protected final TickActivation activation = new TickActivation();
     protected AbstractHerobrineEntity(EntityType<? extends AbstractHerobrineEntity> type, World worldIn) {
         super(type, worldIn);
     }
-    // (from Guliver Jham)
-    // This is made to correct 20 instances of if statements to make it the code easier.
-    private static final HashSet<String> aef_conditions = new HashSet<String>()
-    {{
-        DamageSource[] addHere = new DamageSource[]
-                {
-                        // All of the damage sources below will make the function
-                        // "attackEntityFrom" return false.
-                        DamageSource.FALL,
-                        DamageSource.CACTUS,
-                        DamageSource.DROWN,
-                        DamageSource.LIGHTNING_BOLT,
-                        DamageSource.IN_FIRE,
-                        DamageSource.ON_FIRE,
-                        DamageSource.ANVIL,
-                        DamageSource.CRAMMING,
-                        DamageSource.DRAGON_BREATH,
-                        DamageSource.DRYOUT,
-                        DamageSource.FALLING_BLOCK,
-                        DamageSource.FIREWORKS,
-                        DamageSource.FLY_INTO_WALL,
-                        DamageSource.HOT_FLOOR,
-                        DamageSource.LAVA,
-                        DamageSource.IN_WALL,
-                        DamageSource.MAGIC,
-                        DamageSource.STARVE,
-                        DamageSource.SWEET_BERRY_BUSH,
-                        DamageSource.WITHER
-                };
-
-        //This piece right here adds all 'possibilities' to the hash set.
-        for (int i = 0; i < addHere.length; ++i)
-            add( addHere[i].getDamageType() );
-
-    }};
-
     @Override
     public boolean attackEntityFrom(@NotNull DamageSource source, float amount) {
-
-        if (source.getImmediateSource() instanceof AreaEffectCloudEntity)
-            return false;
-        if (source.getImmediateSource() instanceof PotionEntity)
-            return false;
-        if (source.getImmediateSource() instanceof UnholyWaterEntity)
-            return false;
-        // From Guliver Jham
-        //Idk what purpose this function serves (now i know)
-        //but i shortened 20 if statements with the line below...
-        //resulting in a better performance... (for taking damage)
-        //this was frustrating.
-        //Idk who made this code before but please don't do that again...
-        if (aef_conditions.contains( source.getDamageType() ))
+        //The damage Herobrine shrugs off is listed in data/herobrine/damage_immunity/herobrine.json.
+        if (DamageImmunity.get(this.getType()).isImmune(source))
             return false;
         return super.attackEntityFrom(source, amount);
     }
 
     @Override
-    public void baseTick() {
-        Variables.SaveData.get(world).syncData(world);
-        if (!Variables.SaveData.get(world).Spawn && !Config.COMMON.HerobrineAlwaysSpawns.get() && !world.isRemote) {
-            this.remove();
+    public void tick() {
+        if (this.activation.shouldTick(this)) {
+            super.tick();
+        } else {
+            TickActivation.inactiveTick(this);
+        }
+    }
+
+    @Override
+    protected void updateEntityActionState() {
+        if (this.activation.shouldRunAI(this)) {
+            super.updateEntityActionState();
+        } else {
+            ++this.idleTime;
+        }
+    }
+
+    //Herobrine mobs can't be given potion effects. Effects are turned away when they are applied instead of being cleared every tick.
+    //A subclass can let some effects through by overriding getAllowedEffects.
+    //Nothing in tick touches effects any more, the only other place that does is readAdditional below, once per loaded mob.
+    @Override
+    public boolean isPotionApplicable(@NotNull EffectInstance potioneffectIn) {
+        if (!this.getAllowedEffects().contains(potioneffectIn.getPotion())) {
+            return false;
+        }
+        return super.isPotionApplicable(potioneffectIn);
+    }
+
+    protected Set<Effect> getAllowedEffects() {
+        return Collections.emptySet();
+    }
+
+    //Mobs saved by older versions may still carry effects, those never went through isPotionApplicable.
+    @Override
+    public void readAdditional(@NotNull CompoundNBT compound) {
+        super.readAdditional(compound);
+        List<Effect> rejected = new ArrayList<>();
+        for (EffectInstance effect : this.getActivePotionEffects()) {
+            if (!this.isPotionApplicable(effect)) {
+                rejected.add(effect.getPotion());
+            }
+        }
+        for (Effect effect : rejected) {
+            this.removePotionEffect(effect);
         }
-        this.clearActivePotions();
-        super.baseTick();
+    }
+
+    //Vanishes in a puff of smoke, used when a summoned mob runs out of time.
+    protected void expire() {
+        this.world.setEntityState(this, EXPIRE_EFFECT);
+        this.remove();
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    @Override
+    public void handleStatusUpdate(byte id) {
+        if (id == EXPIRE_EFFECT) {
+            playEffect(this, SoundEvents.ITEM_FIRECHARGE_USE, ParticleTypes.POOF);
+        } else if (id == CAST_EFFECT) {
+            playEffect(this, SoundEvents.ENTITY_ILLUSIONER_CAST_SPELL, ParticleTypes.EFFECT);
+        } else {
+            super.handleStatusUpdate(id);
+        }
+    }
+
+    //Also used by the mage's illusions, which aren't Herobrine mobs themselves.
+    @OnlyIn(Dist.CLIENT)
+    static void playEffect(@NotNull LivingEntity entity, SoundEvent sound, IParticleData particle) {
+        Random rand = entity.getRNG();
+        if (!entity.isSilent()) {
+            entity.world.playSound(entity.getPosX() + 0.5D, entity.getPosY() + 0.5D, entity.getPosZ() + 0.5D, sound, entity.getSoundCategory(), 1.0F + rand.nextFloat(), rand.nextFloat() * 0.7F + 0.3F, false);
+        }
+
+        for (int i = 0; i < 20; ++i) {
+            double d0 = rand.nextGaussian() * 0.02D;
+            double d1 = rand.nextGaussian() * 0.02D;
+            double d2 = rand.nextGaussian() * 0.02D;
+            entity.world.addParticle(particle, entity.getPosXWidth(1.0D) - d0 * 10.0D, entity.getPosYRandom() - d1 * 10.0D, entity.getPosZRandom(1.0D) - d2 * 10.0D, d0, d1, d2);
+        }
+    }
+
+    @Override
+    public void onAddedToWorld() {
+        super.onAddedToWorld();
+        ModEntityIndex.onAdded(this);
+    }
+
+    @Override
+    public void onRemovedFromWorld() {
+        super.onRemovedFromWorld();
+        ModEntityIndex.onRemoved(this);
     }
 
     @Override
@@ -115,7 +168,7 @@ public class AbstractHerobrineEntity extends MonsterEntity {
     }
 
     public static boolean canSpawn(EntityType<? extends AbstractHerobrineEntity> type, @NotNull IWorld worldIn, SpawnReason reason, BlockPos pos, Random randomIn) {
-        return worldIn.getDifficulty() != Difficulty.PEACEFUL && isValidLightLevel(worldIn, pos, randomIn) && canSpawnOn(type, worldIn, reason, pos, randomIn) && Variables.SaveData.get(worldIn.getWorld()).Spawn || worldIn.getDifficulty() != Difficulty.PEACEFUL && isValidLightLevel(worldIn, pos, randomIn) && canSpawnOn(type, worldIn, reason, pos, randomIn) && Config.COMMON.HerobrineAlwaysSpawns.get();
+        return HerobrineActivation.get().isActive() && worldIn.getDifficulty() != Difficulty.PEACEFUL && isValidLightLevel(worldIn, pos, randomIn) && canSpawnOn(type, worldIn, reason, pos, randomIn);
     }
 
     @Override
@@ -127,7 +180,7 @@ public class AbstractHerobrineEntity extends MonsterEntity {
     protected void dropSpecialItems(@NotNull DamageSource source, int looting, boolean recentlyHitIn) {
         super.dropSpecialItems(source, looting, recentlyHitIn);
         Random rand = new Random();
-        if(rand.nextInt(100) <= 20 * (looting + 1) && !(this instanceof FakeHerobrineMageEntity)) {
+        if(rand.nextInt(100) <= 20 * (looting + 1)) {
             this.entityDropItem(new ItemStack(ItemList.cursed_dust, 1));
         }
     }
@@ -1,8 +1,9 @@
 package com.herobrine.mod.entities;
 
-import com.herobrine.mod.config.Config;
+import com.herobrine.mod.util.entities.ModEntityIndex;
+import com.herobrine.mod.util.entities.TickActivation;
 import com.herobrine.mod.util.items.ItemList;
-import com.herobrine.mod.util.savedata.Variables;
+import com.herobrine.mod.util.savedata.HerobrineActivation;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.SpawnReason;
@@ -23,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Random;
 
 public class AbstractInfectedEntity extends MonsterEntity{
+    protected final TickActivation activation = new TickActivation();
     protected AbstractInfectedEntity(EntityType<? extends AbstractInfectedEntity> type, World worldIn) {
         super(type, worldIn);
     }
@@ -58,12 +60,33 @@ public class AbstractInfectedEntity extends MonsterEntity{
     }
 
     @Override
-    public void baseTick() {
-        Variables.SaveData.get(world).syncData(world);
-        if (!Variables.SaveData.get(world).Spawn && !Config.COMMON.HerobrineAlwaysSpawns.get() && !world.isRemote) {
-            this.remove();
+    public void tick() {
+        if (this.activation.shouldTick(this)) {
+            super.tick();
+        } else {
+            TickActivation.inactiveTick(this);
+        }
+    }
+
+    @Override
+    protected void updateEntityActionState() {
+        if (this.activation.shouldRunAI(this)) {
+            super.updateEntityActionState();
+        } else {
+            ++this.idleTime;
         }
-        super.baseTick();
+    }
+
+    @Override
+    public void onAddedToWorld() {
+        super.onAddedToWorld();
+        ModEntityIndex.onAdded(this);
+    }
+
+    @Override
+    public void onRemovedFromWorld() {
+        super.onRemovedFromWorld();
+        ModEntityIndex.onRemoved(this);
     }
 
     public static boolean isValidLightLevel(@NotNull IWorld worldIn, @NotNull BlockPos pos, @NotNull Random randomIn) {
@@ -80,7 +103,7 @@ public class AbstractInfectedEntity extends MonsterEntity{
     }
 
     public static boolean canSpawn(EntityType<? extends AbstractInfectedEntity> type, @NotNull IWorld worldIn, SpawnReason reason, BlockPos pos, Random randomIn) {
-        return worldIn.getDifficulty() != Difficulty.PEACEFUL && hasViewOfSky(worldIn, pos) && isValidLightLevel(worldIn, pos, randomIn) && canSpawnOn(type, worldIn, reason, pos, randomIn) && Variables.SaveData.get(worldIn.getWorld()).Spawn || worldIn.getDifficulty() != Difficulty.PEACEFUL && hasViewOfSky(worldIn, pos) && isValidLightLevel(worldIn, pos, randomIn) && canSpawnOn(type, worldIn, reason, pos, randomIn) && Config.COMMON.HerobrineAlwaysSpawns.get();
+        return HerobrineActivation.get().isActive() && worldIn.getDifficulty() != Difficulty.PEACEFUL && hasViewOfSky(worldIn, pos) && isValidLightLevel(worldIn, pos, randomIn) && canSpawnOn(type, worldIn, reason, pos, randomIn);
     }
 
     @Override
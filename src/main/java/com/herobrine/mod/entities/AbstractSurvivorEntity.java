@@ -1,6 +1,12 @@
 package com.herobrine.mod.entities;
 
 import com.google.common.collect.Sets;
+import com.herobrine.mod.entities.goals.ConditionalGoal;
+import com.herobrine.mod.entities.goals.LookAtInterestGoal;
+import com.herobrine.mod.entities.goals.PrioritizedTargetGoal;
+import com.herobrine.mod.entities.goals.StaggeredGoal;
+import com.herobrine.mod.util.entities.EntityTimer;
+import com.herobrine.mod.util.entities.SurvivorRegistry;
 import com.herobrine.mod.util.entities.SurvivorTrades;
 import net.minecraft.entity.*;
 import net.minecraft.entity.ai.goal.*;
@@ -21,7 +27,6 @@ import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.Hand;
 import net.minecraft.util.SoundEvent;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.IWorld;
@@ -29,7 +34,6 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
-import java.util.List;
 import java.util.Set;
 
 public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant, INPC {
@@ -43,8 +47,16 @@ public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant,
     @Nullable
     protected MerchantOffers offers;
     private final Inventory survivorInventory = new Inventory(27);
-    private int healTimer = 80;
-    WaterAvoidingRandomWalkingGoal wanderGoal = new WaterAvoidingRandomWalkingGoal(this, 0.8D);
+    private final EntityTimer healTimer = EntityTimer.repeating(this, 80, this::regenerate);
+    private Mode mode = Mode.IDLE;
+
+    //What the survivor is busy with, goals that only fit one mode check it before they start and while they run.
+    //It is kept up to date when the customer changes, so switching modes never touches the goal selectors.
+    //Fighting needs no mode of its own, the melee goal holds the movement while there is a target.
+    public enum Mode {
+        IDLE,
+        TRADING
+    }
 
     protected static class LookAtCustomerGoal extends LookAtGoal {
         private final AbstractSurvivorEntity survivorEntity;
@@ -56,10 +68,11 @@ public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant,
 
         @Override
         public boolean shouldExecute() {
-            if (!this.survivorEntity.hasNoCustomer()) {
-                this.closestEntity = this.survivorEntity.getCustomer();
+            if (this.survivorEntity.getMode() != Mode.TRADING) {
+                return false;
             }
-            return !this.survivorEntity.hasNoCustomer();
+            this.closestEntity = this.survivorEntity.getCustomer();
+            return true;
         }
     }
 
@@ -67,25 +80,31 @@ public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant,
     protected void registerGoals() {
         this.goalSelector.addGoal(0, new SwimGoal(this));
         this.goalSelector.addGoal(1, new MeleeAttackGoal(this, 1.2D, true));
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, MonsterEntity.class, true));
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, SlimeEntity.class, true));
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, InfectedLlamaEntity.class, true));
-        this.targetSelector.addGoal(3, new NearestAttackableTargetGoal<>(this, AbstractHerobrineEntity.class, true));
-        this.targetSelector.addGoal(4, new NearestAttackableTargetGoal<>(this, AbstractIllagerEntity.class, true));
-        this.targetSelector.addGoal(5, new NearestAttackableTargetGoal<>(this, AbstractRaiderEntity.class, true));
+        this.targetSelector.addGoal(2, StaggeredGoal.target(this, new PrioritizedTargetGoal(this, true)
+                .add(2, MonsterEntity.class)
+                .add(2, SlimeEntity.class)
+                .add(2, InfectedLlamaEntity.class)
+                .add(3, AbstractHerobrineEntity.class)
+                .add(3, FakeHerobrineMageEntity.class)
+                .add(4, AbstractIllagerEntity.class)
+                .add(5, AbstractRaiderEntity.class)));
         this.targetSelector.addGoal(6, new HurtByTargetGoal(this));
         this.goalSelector.addGoal(7, new LookAtCustomerGoal(this));
-        this.goalSelector.addGoal(8, new LookAtGoal(this, PlayerEntity.class, 64.0F));
-        this.goalSelector.addGoal(9, new LookAtGoal(this, AbstractSurvivorEntity.class, 64.0F));
-        this.goalSelector.addGoal(10, new LookAtGoal(this, MonsterEntity.class, 64.0F));
-        this.goalSelector.addGoal(10, new LookAtGoal(this, SlimeEntity.class, 64.0F));
-        this.goalSelector.addGoal(10, new LookAtGoal(this, InfectedLlamaEntity.class, 64.0F));
-        this.goalSelector.addGoal(11, new LookAtGoal(this, AbstractHerobrineEntity.class, 64.0F));
-        this.goalSelector.addGoal(12, new LookAtGoal(this, GolemEntity.class, 64.0F));
-        this.goalSelector.addGoal(13, new LookAtGoal(this, AbstractVillagerEntity.class, 64.0F));
-        this.goalSelector.addGoal(14, new LookAtGoal(this, AbstractIllagerEntity.class, 64.0F));
-        this.goalSelector.addGoal(15, new LookAtGoal(this, AbstractRaiderEntity.class, 64.0F));
+        this.goalSelector.addGoal(8, StaggeredGoal.look(this, new LookAtInterestGoal(this, 64.0F)
+                .add(8, PlayerEntity.class)
+                .add(9, AbstractSurvivorEntity.class)
+                .add(10, MonsterEntity.class)
+                .add(10, SlimeEntity.class)
+                .add(10, InfectedLlamaEntity.class)
+                .add(11, AbstractHerobrineEntity.class)
+                .add(11, FakeHerobrineMageEntity.class)
+                .add(12, GolemEntity.class)
+                .add(13, AbstractVillagerEntity.class)
+                .add(14, AbstractIllagerEntity.class)
+                .add(15, AbstractRaiderEntity.class)));
         this.goalSelector.addGoal(16, new LookRandomlyGoal(this));
+        //Only trading stops the wandering, like when the goal used to be removed for a customer. While fighting the melee goal holds the movement anyway.
+        this.goalSelector.addGoal(17, new ConditionalGoal(new WaterAvoidingRandomWalkingGoal(this, 0.8D), () -> this.mode != Mode.TRADING));
     }
 
     @Override
@@ -98,17 +117,6 @@ public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant,
         this.getAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.4D);
     }
 
-    @Override
-    public void updateAITasks() {
-        if(!this.hasNoCustomer()) {
-            this.goalSelector.removeGoal(this.wanderGoal);
-        }
-
-        if(this.hasNoCustomer()) {
-            this.goalSelector.addGoal(17, this.wanderGoal);
-        }
-    }
-
     @Override
     protected boolean canDropLoot() {
         return true;
@@ -150,7 +158,7 @@ public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant,
     @Override
     public void writeAdditional(@NotNull CompoundNBT compound) {
         super.writeAdditional(compound);
-        compound.putInt("RegenSpeed", this.healTimer);
+        this.healTimer.write(compound, "RegenSpeed");
         MerchantOffers merchantoffers = this.getOffers();
         if (!merchantoffers.isEmpty()) {
             compound.put("Offers", merchantoffers.write());
@@ -171,7 +179,7 @@ public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant,
     @Override
     public void readAdditional(@NotNull CompoundNBT compound) {
         super.readAdditional(compound);
-        this.healTimer = compound.getInt("RegenSpeed");
+        this.healTimer.read(compound, "RegenSpeed");
         if (compound.contains("Offers", 10)) {
             this.offers = new MerchantOffers(compound.getCompound("Offers"));
         }
@@ -186,6 +194,27 @@ public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant,
         }
     }
 
+    @Override
+    public void onAddedToWorld() {
+        super.onAddedToWorld();
+        this.healTimer.start();
+        SurvivorRegistry.onAdded(this);
+    }
+
+    @Override
+    public void onRemovedFromWorld() {
+        super.onRemovedFromWorld();
+        this.healTimer.stop();
+        SurvivorRegistry.onRemoved(this);
+    }
+
+    //Regeneration code, runs from the healTimer and regens 1 (half a heart) every 80 tick.
+    private void regenerate() {
+        if (this.getHealth() < this.getMaxHealth()) {
+            this.heal(1.0F);
+        }
+    }
+
     protected void resetCustomer() {
         this.setCustomer(null);
     }
@@ -200,41 +229,6 @@ public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant,
         super.livingTick();
         this.updateArmSwingProgress();
         //I'm also trying to comment what these do so ppl know. (Guliver Jham said that.)
-
-        //Regeneration code, regens 1 (half a heart) every 80 tick.
-        if(this.isAlive() && this.getHealth() < this.getMaxHealth()) {
-            //GJ changed this for performance reasons.
-            if (this.healTimer <= 0 /* && this.getHealth() < this.getMaxHealth() */) {
-                this.healTimer = 80;
-                this.heal(1.0F);
-            }
-            if (this.healTimer > 80) {
-                this.healTimer = 80;
-            }
-            --this.healTimer;
-            this.updateAITasks();
-        }
-
-        // Code below is detecting if there's an entity that the
-        // survivor wants to fight nearby, if so, it will start attacking it.
-        AxisAlignedBB axisalignedbb = this.getBoundingBox().grow(64.0D, 64.0D, 64.0D);
-        List<LivingEntity> list = this.world.getEntitiesWithinAABB(LivingEntity.class, axisalignedbb);
-        if (!list.isEmpty()) {
-            for (LivingEntity entity : list) {
-                if (entity instanceof MonsterEntity && ((MonsterEntity) entity).getAttackTarget() == null && !(entity instanceof EndermanEntity)) {
-                    ((MonsterEntity) entity).setAttackTarget(this);
-                }
-                if (entity instanceof SlimeEntity && ((SlimeEntity) entity).getAttackTarget() == null) {
-                    ((SlimeEntity) entity).setAttackTarget(this);
-                }
-                if (entity instanceof AbstractIllagerEntity && ((AbstractIllagerEntity) entity).getAttackTarget() == null) {
-                    ((AbstractIllagerEntity) entity).setAttackTarget(this);
-                }
-                if (entity instanceof AbstractRaiderEntity && ((AbstractRaiderEntity) entity).getAttackTarget() == null) {
-                    ((AbstractRaiderEntity) entity).setAttackTarget(this);
-                }
-            }
-        }
     }
 
     public boolean hasNoCustomer() {
@@ -244,6 +238,15 @@ public class AbstractSurvivorEntity extends CreatureEntity implements IMerchant,
     @Override
     public void setCustomer(@Nullable PlayerEntity player) {
         this.customer = player;
+        this.updateMode();
+    }
+
+    public Mode getMode() {
+        return this.mode;
+    }
+
+    private void updateMode() {
+        this.mode = this.customer != null ? Mode.TRADING : Mode.IDLE;
     }
 
     @Nullable
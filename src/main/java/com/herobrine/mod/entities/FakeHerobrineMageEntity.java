@@ -1,51 +1,53 @@
 package com.herobrine.mod.entities;
 
+import com.herobrine.mod.util.entities.DamageImmunity;
 import com.herobrine.mod.util.entities.EntityRegistry;
+import com.herobrine.mod.util.entities.EntityTimer;
 import net.minecraft.entity.EntityType;
-import net.minecraft.entity.ILivingEntityData;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.entity.SpawnReason;
-import net.minecraft.entity.ai.goal.*;
-import net.minecraft.entity.monster.AbstractIllagerEntity;
-import net.minecraft.entity.passive.GolemEntity;
-import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.inventory.EquipmentSlotType;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.particles.ParticleTypes;
-import net.minecraft.util.ResourceLocation;
+import net.minecraft.potion.EffectInstance;
+import net.minecraft.util.DamageSource;
+import net.minecraft.util.HandSide;
 import net.minecraft.util.SoundEvents;
-import net.minecraft.world.DifficultyInstance;
-import net.minecraft.world.IWorld;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
+import java.util.Collections;
+
+//An illusion cast by a Herobrine mage, a decoy that can be hit and is dispelled by holy water.
+//It is a bare living entity instead of a mob, so it has no goals, navigator or controllers and it isn't indexed or tick throttled like the real Herobrine mobs.
+//Every tick it pushes itself towards its spot around the mage and faces the mage's target, and it is never saved with the chunk.
+public class FakeHerobrineMageEntity extends LivingEntity {
+    //How far from its mage an illusion circles.
+    private static final double RADIUS = 3.0D;
+    //Most blocks an illusion moves on its own in a tick, a bit faster than the mage walks so it keeps up.
+    private static final double SPEED = 0.3D;
 
-public class FakeHerobrineMageEntity extends AbstractHerobrineEntity {
     protected FakeHerobrineMageEntity(EntityType<? extends FakeHerobrineMageEntity> type, World worldIn) {
         super(type, worldIn);
-        experienceValue = 0;
     }
     public FakeHerobrineMageEntity(World worldIn) {
         this(EntityRegistry.FAKE_HEROBRINE_MAGE_ENTITY, worldIn);
     }
 
-    private int lifeTimer = 200;
+    private final EntityTimer lifeTimer = EntityTimer.once(this, 200, this::expire);
+    @Nullable
+    private HerobrineMageEntity caster;
+    private float angle;
 
-    @Override
-    protected void registerGoals() {
-        this.goalSelector.addGoal(0, new SwimGoal(this));
-        this.goalSelector.addGoal(1, new MeleeAttackGoal(this, 0.6D, true));
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, AbstractIllagerEntity.class, true));
-        this.targetSelector.addGoal(3, new NearestAttackableTargetGoal<>(this, PlayerEntity.class, true));
-        this.targetSelector.addGoal(4, new NearestAttackableTargetGoal<>(this, AbstractSurvivorEntity.class, true));
-        this.targetSelector.addGoal(5, new NearestAttackableTargetGoal<>(this, GolemEntity.class, true));
-        this.targetSelector.addGoal(6, new HurtByTargetGoal(this));
-        this.goalSelector.addGoal(7, new WaterAvoidingRandomWalkingGoal(this, 0.4D));
-        this.goalSelector.addGoal(8, new LookAtGoal(this, AbstractIllagerEntity.class, 8.0F));
-        this.goalSelector.addGoal(9, new LookAtGoal(this, PlayerEntity.class, 8.0F));
-        this.goalSelector.addGoal(10, new LookAtGoal(this, AbstractSurvivorEntity.class, 8.0F));
-        this.goalSelector.addGoal(11, new LookAtGoal(this, GolemEntity.class, 8.0F));
-        this.goalSelector.addGoal(12, new LookRandomlyGoal(this));
+    //Called by the mage before it adds the illusion to the world, the angle is where around the mage it stays.
+    public void setCaster(@NotNull HerobrineMageEntity caster, float angle) {
+        this.caster = caster;
+        this.angle = angle;
     }
 
     @Override
@@ -53,54 +55,107 @@ public class FakeHerobrineMageEntity extends AbstractHerobrineEntity {
         super.registerAttributes();
         this.getAttribute(SharedMonsterAttributes.MAX_HEALTH).setBaseValue(25.0D);
         this.getAttribute(SharedMonsterAttributes.KNOCKBACK_RESISTANCE).setBaseValue(1.0D);
-        this.getAttribute(SharedMonsterAttributes.FOLLOW_RANGE).setBaseValue(64.0D);
-        this.getAttribute(SharedMonsterAttributes.MOVEMENT_SPEED).setBaseValue(0.4D);
-        this.getAttribute(SharedMonsterAttributes.ATTACK_DAMAGE).setBaseValue(0.0D);
-        this.getAttribute(SharedMonsterAttributes.ATTACK_KNOCKBACK).setBaseValue(0.0D);
-    }
-
-    @Override
-    public void writeAdditional(@NotNull CompoundNBT compound) {
-        super.writeAdditional(compound);
-        compound.putInt("LifeTime", this.lifeTimer);
     }
 
     @Override
-    public void readAdditional(@NotNull CompoundNBT compound) {
-        super.readAdditional(compound);
-        this.lifeTimer = compound.getInt("LifeTime");
+    public boolean attackEntityFrom(@NotNull DamageSource source, float amount) {
+        //Shrugs off the same damage as the real mage, listed in data/herobrine/damage_immunity/herobrine.json.
+        if (DamageImmunity.get(this.getType()).isImmune(source))
+            return false;
+        return super.attackEntityFrom(source, amount);
     }
 
+    //Like the real mage it takes no potion effects.
     @Override
-    public ILivingEntityData onInitialSpawn(@NotNull IWorld worldIn, @NotNull DifficultyInstance difficultyIn, @NotNull SpawnReason reason, @Nullable ILivingEntityData spawnDataIn, @Nullable CompoundNBT dataTag) {
-        this.enablePersistence();
-        return super.onInitialSpawn(worldIn, difficultyIn, reason, spawnDataIn, dataTag);
+    public boolean isPotionApplicable(@NotNull EffectInstance potioneffectIn) {
+        return false;
     }
 
     @Override
     public void livingTick() {
-        if (this.lifeTimer < 1) {
-            if (this.world.isRemote) {
-                if (!this.isSilent()) {
-                    this.world.playSound(this.getPosX() + 0.5D, this.getPosY() + 0.5D, this.getPosZ() + 0.5D, SoundEvents.ITEM_FIRECHARGE_USE, this.getSoundCategory(), 1.0F + this.rand.nextFloat(), this.rand.nextFloat() * 0.7F + 0.3F, false);
-                }
-
-                for (int i = 0; i < 20; ++i) {
-                    double d0 = this.rand.nextGaussian() * 0.02D;
-                    double d1 = this.rand.nextGaussian() * 0.02D;
-                    double d2 = this.rand.nextGaussian() * 0.02D;
-                    this.world.addParticle(ParticleTypes.POOF, this.getPosXWidth(1.0D) - d0 * 10.0D, this.getPosYRandom() - d1 * 10.0D, this.getPosZRandom(1.0D) - d2 * 10.0D, d0, d1, d2);
-                }
+        if (!this.world.isRemote) {
+            if (this.caster == null || !this.caster.isAlive()) {
+                this.expire();
+                return;
             }
-            this.remove();
+            this.follow(this.caster);
         }
-        --this.lifeTimer;
         super.livingTick();
     }
 
+    //Walks straight at its spot next to the mage, the mage already found its way there. It jumps up steps and out of water.
+    private void follow(@NotNull HerobrineMageEntity caster) {
+        float angle = this.angle + caster.rotationYaw * ((float) Math.PI / 180.0F);
+        double dx = caster.getPosX() + Math.cos(angle) * RADIUS - this.getPosX();
+        double dz = caster.getPosZ() + Math.sin(angle) * RADIUS - this.getPosZ();
+        double distance = Math.sqrt(dx * dx + dz * dz);
+        double scale = distance > SPEED ? SPEED / distance : 1.0D;
+        this.setMotion(dx * scale, this.getMotion().y, dz * scale);
+        this.setJumping(this.isInWater() || this.collidedHorizontally);
+        LivingEntity target = caster.getAttackTarget();
+        if (target != null) {
+            this.rotationYaw = (float) (MathHelper.atan2(target.getPosZ() - this.getPosZ(), target.getPosX() - this.getPosX()) * (180.0D / Math.PI)) - 90.0F;
+            this.rotationYawHead = this.rotationYaw;
+        }
+    }
+
+    //Vanishes in a puff of smoke when it runs out of time or its mage is gone.
+    private void expire() {
+        this.world.setEntityState(this, AbstractHerobrineEntity.EXPIRE_EFFECT);
+        this.remove();
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    @Override
+    public void handleStatusUpdate(byte id) {
+        if (id == AbstractHerobrineEntity.EXPIRE_EFFECT) {
+            AbstractHerobrineEntity.playEffect(this, SoundEvents.ITEM_FIRECHARGE_USE, ParticleTypes.POOF);
+        } else {
+            super.handleStatusUpdate(id);
+        }
+    }
+
+    //An illusion only lasts as long as its mage is around, so it is never written to the chunk.
+    @Override
+    public boolean writeUnlessRemoved(@NotNull CompoundNBT compound) {
+        return false;
+    }
+
+    @Override
+    public void onAddedToWorld() {
+        super.onAddedToWorld();
+        this.lifeTimer.start();
+    }
+
+    @Override
+    public void onRemovedFromWorld() {
+        super.onRemovedFromWorld();
+        this.lifeTimer.stop();
+    }
+
+    //Nothing is dropped, a living entity that isn't a mob gives no experience either.
+    @Override
+    protected boolean canDropLoot() {
+        return false;
+    }
+
+    //It carries nothing.
+    @Override
+    public @NotNull Iterable<ItemStack> getArmorInventoryList() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public @NotNull ItemStack getItemStackFromSlot(@NotNull EquipmentSlotType slotIn) {
+        return ItemStack.EMPTY;
+    }
+
+    @Override
+    public void setItemStackToSlot(@NotNull EquipmentSlotType slotIn, @NotNull ItemStack stack) {
+    }
+
     @Override
-    @SuppressWarnings("ConstantConditions")
-    public @NotNull ResourceLocation getLootTable() {
-        return null;
+    public @NotNull HandSide getPrimaryHand() {
+        return HandSide.RIGHT;
     }
 }
\ No newline at end of file
@@ -1,8 +1,12 @@
 package com.herobrine.mod.entities;
 
 import com.herobrine.mod.HerobrineMod;
-import com.herobrine.mod.config.Config;
+import com.herobrine.mod.config.ConfigSnapshot;
+import com.herobrine.mod.entities.goals.LookAtInterestGoal;
+import com.herobrine.mod.entities.goals.PrioritizedTargetGoal;
+import com.herobrine.mod.entities.goals.StaggeredGoal;
 import com.herobrine.mod.util.entities.EntityRegistry;
+import com.herobrine.mod.util.entities.EntityTimer;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.EntityType;
@@ -17,7 +21,6 @@ import net.minecraft.inventory.EquipmentSlotType;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.particles.ParticleTypes;
 import net.minecraft.util.*;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.DifficultyInstance;
@@ -40,23 +43,25 @@ public class HerobrineBuilderEntity extends AbstractHerobrineEntity {
         this(EntityRegistry.HEROBRINE_BUILDER_ENTITY, worldIn);
     }
 
-    private int placeTimer = 1000;
-    private int lifeTimer = 5100;
+    private final EntityTimer placeTimer = EntityTimer.repeating(this, 1000, this::build);
+    private final EntityTimer lifeTimer = EntityTimer.once(this, 5100, this::expire);
 
     @Override
     protected void registerGoals() {
         this.goalSelector.addGoal(0, new SwimGoal(this));
         this.goalSelector.addGoal(1, new MeleeAttackGoal(this, 0.8D, true));
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, AbstractIllagerEntity.class, true));
-        this.targetSelector.addGoal(3, new NearestAttackableTargetGoal<>(this, PlayerEntity.class, true));
-        this.targetSelector.addGoal(4, new NearestAttackableTargetGoal<>(this, AbstractSurvivorEntity.class, true));
-        this.targetSelector.addGoal(5, new NearestAttackableTargetGoal<>(this, GolemEntity.class, true));
+        this.targetSelector.addGoal(2, StaggeredGoal.target(this, new PrioritizedTargetGoal(this, true)
+                .add(2, AbstractIllagerEntity.class)
+                .add(3, PlayerEntity.class)
+                .add(4, AbstractSurvivorEntity.class)
+                .add(5, GolemEntity.class)));
         this.targetSelector.addGoal(6, new HurtByTargetGoal(this));
         this.goalSelector.addGoal(7, new WaterAvoidingRandomWalkingGoal(this, 0.6D));
-        this.goalSelector.addGoal(8, new LookAtGoal(this, AbstractIllagerEntity.class, 8.0F));
-        this.goalSelector.addGoal(9, new LookAtGoal(this, PlayerEntity.class, 8.0F));
-        this.goalSelector.addGoal(10, new LookAtGoal(this, AbstractSurvivorEntity.class, 8.0F));
-        this.goalSelector.addGoal(11, new LookAtGoal(this, GolemEntity.class, 8.0F));
+        this.goalSelector.addGoal(8, StaggeredGoal.look(this, new LookAtInterestGoal(this, 8.0F)
+                .add(8, AbstractIllagerEntity.class)
+                .add(9, PlayerEntity.class)
+                .add(10, AbstractSurvivorEntity.class)
+                .add(11, GolemEntity.class)));
         this.goalSelector.addGoal(12, new LookRandomlyGoal(this));
     }
 
@@ -75,15 +80,15 @@ public class HerobrineBuilderEntity extends AbstractHerobrineEntity {
     @Override
     public void writeAdditional(@NotNull CompoundNBT compound) {
         super.writeAdditional(compound);
-        compound.putInt("LifeTime", this.lifeTimer);
-        compound.putInt("BuildingInterval", this.placeTimer);
+        this.lifeTimer.write(compound, "LifeTime");
+        this.placeTimer.write(compound, "BuildingInterval");
     }
 
     @Override
     public void readAdditional(@NotNull CompoundNBT compound) {
         super.readAdditional(compound);
-        this.lifeTimer = compound.getInt("LifeTime");
-        this.placeTimer = compound.getInt("BuildingInterval");
+        this.lifeTimer.read(compound, "LifeTime");
+        this.placeTimer.read(compound, "BuildingInterval");
     }
 
     @Override
@@ -93,38 +98,29 @@ public class HerobrineBuilderEntity extends AbstractHerobrineEntity {
     }
 
     @Override
-    public void livingTick() {
-        if (this.lifeTimer <= 0) {
-            if (this.world.isRemote) {
-                if (!this.isSilent()) {
-                    this.world.playSound(this.getPosX() + 0.5D, this.getPosY() + 0.5D, this.getPosZ() + 0.5D, SoundEvents.ITEM_FIRECHARGE_USE, this.getSoundCategory(), 1.0F + this.rand.nextFloat(), this.rand.nextFloat() * 0.7F + 0.3F, false);
-                }
-
-                for (int i = 0; i < 20; ++i) {
-                    double d0 = this.rand.nextGaussian() * 0.02D;
-                    double d1 = this.rand.nextGaussian() * 0.02D;
-                    double d2 = this.rand.nextGaussian() * 0.02D;
-                    this.world.addParticle(ParticleTypes.POOF, this.getPosXWidth(1.0D) - d0 * 10.0D, this.getPosYRandom() - d1 * 10.0D, this.getPosZRandom(1.0D) - d2 * 10.0D, d0, d1, d2);
-                }
-            }
-            this.remove();
-        }
-        --this.lifeTimer;
+    public void onAddedToWorld() {
+        super.onAddedToWorld();
+        this.lifeTimer.start();
+        this.placeTimer.start();
+    }
 
-        //This was 2 if statements with the same result (GJ said)
-        if (this.placeTimer < 1 || this.placeTimer > 1000) {
-            this.placeTimer = 1000;
-        }
+    @Override
+    public void onRemovedFromWorld() {
+        super.onRemovedFromWorld();
+        this.lifeTimer.stop();
+        this.placeTimer.stop();
+    }
 
-        --this.placeTimer;
-        if (this.placeTimer == 0 && net.minecraftforge.event.ForgeEventFactory.getMobGriefingEvent(this.world, this)) {
+    //Runs every 1000 ticks from the placeTimer, on the server only.
+    private void build() {
+        if (net.minecraftforge.event.ForgeEventFactory.getMobGriefingEvent(this.world, this)) {
             int x = (int) this.getPosX();
             int y = (int) this.getPosY();
             int z = (int) this.getPosZ();
             Rotation rotation = Rotation.values()[rand.nextInt(3)];
             Mirror mirror = Mirror.values()[rand.nextInt(2)];
             BlockState blockAt = world.getBlockState(new BlockPos(x, y - 1, z));
-            if (!world.isRemote && Config.COMMON.BuilderBuilds.get()) {
+            if (ConfigSnapshot.get().BuilderBuilds) {
                 // Document this, idk what is this. (GJ)
                 if (blockAt.getBlock() == Blocks.GRASS_BLOCK.getDefaultState().getBlock() && y >= 62 || blockAt.getBlock() == Blocks.DIRT.getDefaultState().getBlock() && y >= 62) {
                     Template template = ((ServerWorld) world.getWorld()).getSaveHandler().getStructureTemplateManager().getTemplateDefaulted(new ResourceLocation(HerobrineMod.MODID, "dirt_structure"));
@@ -168,6 +164,5 @@ public class HerobrineBuilderEntity extends AbstractHerobrineEntity {
                 }
             }
         }
-        super.livingTick();
     }
 }
\ No newline at end of file
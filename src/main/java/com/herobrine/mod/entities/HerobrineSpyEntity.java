@@ -1,18 +1,15 @@
 package com.herobrine.mod.entities;
 
-import com.herobrine.mod.config.Config;
+import com.herobrine.mod.config.ConfigSnapshot;
+import com.herobrine.mod.entities.goals.ObservePlayerGoal;
 import com.herobrine.mod.util.entities.EntityRegistry;
+import com.herobrine.mod.util.entities.EntityTimer;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.ILivingEntityData;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.SpawnReason;
-import net.minecraft.entity.ai.goal.AvoidEntityGoal;
-import net.minecraft.entity.ai.goal.LookAtGoal;
 import net.minecraft.entity.ai.goal.SwimGoal;
-import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.particles.ParticleTypes;
-import net.minecraft.util.SoundEvents;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
@@ -26,7 +23,7 @@ public class HerobrineSpyEntity extends AbstractHerobrineEntity {
         experienceValue = 5;
     }
 
-    private int lifeTimer = 6000;
+    private final EntityTimer lifeTimer = EntityTimer.once(this, 6000, this::expire);
 
     public HerobrineSpyEntity(World worldIn) {
         this(EntityRegistry.HEROBRINE_SPY_ENTITY, worldIn);
@@ -40,10 +37,7 @@ public class HerobrineSpyEntity extends AbstractHerobrineEntity {
     @Override
     protected void registerGoals() {
         this.goalSelector.addGoal(0, new SwimGoal(this));
-        this.goalSelector.addGoal(1, new LookAtGoal(this, PlayerEntity.class, 1024.0F));
-        this.goalSelector.addGoal(2, new AvoidEntityGoal<>(this, PlayerEntity.class, Config.COMMON.HerobrineSpyObservationDistance.get(), 0.7D, 1.0D));
-        this.goalSelector.addGoal(3, new LookAtGoal(this, PlayerEntity.class, 1024.0F));
-        this.goalSelector.addGoal(4, new AvoidEntityGoal<>(this, PlayerEntity.class, Config.COMMON.HerobrineSpyObservationDistance.get(), 0.7D, 1.0D));
+        this.goalSelector.addGoal(1, new ObservePlayerGoal(this, () -> ConfigSnapshot.get().HerobrineSpyObservationDistance, 0.7D, 1.0D));
     }
 
     @Override
@@ -60,37 +54,25 @@ public class HerobrineSpyEntity extends AbstractHerobrineEntity {
     @Override
     public void writeAdditional(@NotNull CompoundNBT compound) {
         super.writeAdditional(compound);
-        compound.putInt("LifeTime", this.lifeTimer);
+        this.lifeTimer.write(compound, "LifeTime");
     }
 
     @Override
     public void readAdditional(@NotNull CompoundNBT compound) {
         super.readAdditional(compound);
-        this.lifeTimer = compound.getInt("LifeTime");
+        this.lifeTimer.read(compound, "LifeTime");
     }
 
     @Override
-    public void baseTick() {
-        super.baseTick();
-        --this.lifeTimer;
-        if(this.lifeTimer > 6000) {
-            this.lifeTimer = 6000;
-        }
-        if(this.lifeTimer <= 0) {
-            if (this.world.isRemote) {
-                if (!this.isSilent()) {
-                    this.world.playSound(this.getPosX() + 0.5D, this.getPosY() + 0.5D, this.getPosZ() + 0.5D, SoundEvents.ITEM_FIRECHARGE_USE, this.getSoundCategory(), 1.0F + this.rand.nextFloat(), this.rand.nextFloat() * 0.7F + 0.3F, false);
-                }
+    public void onAddedToWorld() {
+        super.onAddedToWorld();
+        this.lifeTimer.start();
+    }
 
-                for (int i = 0; i < 20; ++i) {
-                    double d0 = this.rand.nextGaussian() * 0.02D;
-                    double d1 = this.rand.nextGaussian() * 0.02D;
-                    double d2 = this.rand.nextGaussian() * 0.02D;
-                    this.world.addParticle(ParticleTypes.POOF, this.getPosXWidth(1.0D) - d0 * 10.0D, this.getPosYRandom() - d1 * 10.0D, this.getPosZRandom(1.0D) - d2 * 10.0D, d0, d1, d2);
-                }
-            }
-            this.remove();
-        }
+    @Override
+    public void onRemovedFromWorld() {
+        super.onRemovedFromWorld();
+        this.lifeTimer.stop();
     }
 
     @Override
@@ -1,8 +1,11 @@
 package com.herobrine.mod.entities;
 
-import com.herobrine.mod.config.Config;
+import com.herobrine.mod.entities.goals.LookAtInterestGoal;
+import com.herobrine.mod.entities.goals.PrioritizedTargetGoal;
+import com.herobrine.mod.entities.goals.StaggeredGoal;
+import com.herobrine.mod.util.entities.DataWrites;
 import com.herobrine.mod.util.entities.EntityRegistry;
-import com.herobrine.mod.util.savedata.Variables;
+import com.herobrine.mod.util.savedata.HerobrineActivation;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.*;
 import net.minecraft.entity.ai.goal.*;
@@ -73,14 +76,16 @@ public class InfectedBatEntity extends AbstractInfectedEntity implements IFlying
     protected void registerGoals() {
         this.goalSelector.addGoal(0, new SwimGoal(this));
         this.goalSelector.addGoal(1, new MeleeAttackGoal(this, 1.0D, true));
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, PlayerEntity.class, true));
-        this.targetSelector.addGoal(3, new NearestAttackableTargetGoal<>(this, AbstractSurvivorEntity.class, true));
-        this.targetSelector.addGoal(4, new NearestAttackableTargetGoal<>(this, GolemEntity.class, true));
+        this.targetSelector.addGoal(2, StaggeredGoal.target(this, new PrioritizedTargetGoal(this, true)
+                .add(2, PlayerEntity.class)
+                .add(3, AbstractSurvivorEntity.class)
+                .add(4, GolemEntity.class)));
         this.targetSelector.addGoal(5, new HurtByTargetGoal(this));
         this.goalSelector.addGoal(6, new WaterAvoidingRandomWalkingGoal(this, 1.0D));
-        this.goalSelector.addGoal(7, new LookAtGoal(this, PlayerEntity.class, 8.0F));
-        this.goalSelector.addGoal(8, new LookAtGoal(this, AbstractSurvivorEntity.class, 8.0F));
-        this.goalSelector.addGoal(9, new LookAtGoal(this, GolemEntity.class, 8.0F));
+        this.goalSelector.addGoal(7, StaggeredGoal.look(this, new LookAtInterestGoal(this, 8.0F)
+                .add(7, PlayerEntity.class)
+                .add(8, AbstractSurvivorEntity.class)
+                .add(9, GolemEntity.class)));
         this.goalSelector.addGoal(10, new LookRandomlyGoal(this));
     }
 
@@ -143,9 +148,9 @@ public class InfectedBatEntity extends AbstractInfectedEntity implements IFlying
     public void setIsBatHanging(boolean isHanging) {
         byte b0 = this.dataManager.get(HANGING);
         if (isHanging) {
-            this.dataManager.set(HANGING, (byte)(b0 | 1));
+            DataWrites.set(this, HANGING, (byte)(b0 | 1));
         } else {
-            this.dataManager.set(HANGING, (byte)(b0 & -2));
+            DataWrites.set(this, HANGING, (byte)(b0 & -2));
         }
 
     }
@@ -251,7 +256,7 @@ public class InfectedBatEntity extends AbstractInfectedEntity implements IFlying
     }
 
     public static boolean canSpawn(EntityType<? extends AbstractInfectedEntity> batIn, @NotNull IWorld worldIn, SpawnReason reason, @NotNull BlockPos pos, Random randomIn) {
-        if (pos.getY() >= worldIn.getSeaLevel() || !Variables.SaveData.get(worldIn.getWorld()).Spawn && !Config.COMMON.HerobrineAlwaysSpawns.get()) {
+        if (!HerobrineActivation.get().isActive() || pos.getY() >= worldIn.getSeaLevel()) {
             return false;
         } else {
             int i = worldIn.getLight(pos);
@@ -1,5 +1,9 @@
 package com.herobrine.mod.entities;
 
+import com.herobrine.mod.entities.goals.LookAtInterestGoal;
+import com.herobrine.mod.entities.goals.PrioritizedTargetGoal;
+import com.herobrine.mod.entities.goals.StaggeredGoal;
+import com.herobrine.mod.util.entities.DataWrites;
 import com.herobrine.mod.util.entities.EntityRegistry;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.*;
@@ -77,14 +81,16 @@ public class InfectedHorseEntity extends AbstractInfectedEntity {
     protected void registerGoals() {
         this.goalSelector.addGoal(0, new SwimGoal(this));
         this.goalSelector.addGoal(1, new MeleeAttackGoal(this, 1.0D, true));
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, PlayerEntity.class, true));
-        this.targetSelector.addGoal(3, new NearestAttackableTargetGoal<>(this, AbstractSurvivorEntity.class, true));
-        this.targetSelector.addGoal(4, new NearestAttackableTargetGoal<>(this, GolemEntity.class, true));
+        this.targetSelector.addGoal(2, StaggeredGoal.target(this, new PrioritizedTargetGoal(this, true)
+                .add(2, PlayerEntity.class)
+                .add(3, AbstractSurvivorEntity.class)
+                .add(4, GolemEntity.class)));
         this.targetSelector.addGoal(5, new HurtByTargetGoal(this));
         this.goalSelector.addGoal(6, new WaterAvoidingRandomWalkingGoal(this, 0.7D));
-        this.goalSelector.addGoal(7, new LookAtGoal(this, PlayerEntity.class, 8.0F));
-        this.goalSelector.addGoal(8, new LookAtGoal(this, AbstractSurvivorEntity.class, 8.0F));
-        this.goalSelector.addGoal(9, new LookAtGoal(this, GolemEntity.class, 8.0F));
+        this.goalSelector.addGoal(7, StaggeredGoal.look(this, new LookAtInterestGoal(this, 8.0F)
+                .add(7, PlayerEntity.class)
+                .add(8, AbstractSurvivorEntity.class)
+                .add(9, GolemEntity.class)));
         this.goalSelector.addGoal(10, new LookRandomlyGoal(this));
     }
 
@@ -136,7 +142,7 @@ public class InfectedHorseEntity extends AbstractInfectedEntity {
     }
 
     public void setHorseVariant(int variant) {
-        this.dataManager.set(HORSE_VARIANT, variant);
+        DataWrites.set(this, HORSE_VARIANT, variant);
         this.resetTexturePrefix();
     }
 
@@ -1,9 +1,14 @@
 package com.herobrine.mod.entities;
 
-import com.herobrine.mod.config.Config;
+import com.herobrine.mod.entities.goals.LookAtInterestGoal;
+import com.herobrine.mod.entities.goals.PrioritizedTargetGoal;
+import com.herobrine.mod.entities.goals.StaggeredGoal;
+import com.herobrine.mod.util.entities.DataWrites;
 import com.herobrine.mod.util.entities.EntityRegistry;
+import com.herobrine.mod.util.entities.ModEntityIndex;
+import com.herobrine.mod.util.entities.TickActivation;
 import com.herobrine.mod.util.items.ItemList;
-import com.herobrine.mod.util.savedata.Variables;
+import com.herobrine.mod.util.savedata.HerobrineActivation;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.*;
 import net.minecraft.entity.ai.goal.*;
@@ -30,6 +35,7 @@ import java.util.Random;
 
 public class InfectedLlamaEntity extends LlamaEntity {
     private static final DataParameter<Integer> DATA_VARIANT_ID = EntityDataManager.createKey(InfectedLlamaEntity.class, DataSerializers.VARINT);
+    private final TickActivation activation = new TickActivation();
     public InfectedLlamaEntity(EntityType<? extends InfectedLlamaEntity> type, World worldIn) {
         super(type, worldIn);
         experienceValue = 3;
@@ -79,13 +85,15 @@ public class InfectedLlamaEntity extends LlamaEntity {
         this.goalSelector.addGoal(0, new SwimGoal(this));
         this.targetSelector.addGoal(1, new InfectedLlamaEntity.HurtByTargetGoal(this));
         this.goalSelector.addGoal(2, new RangedAttackGoal(this, 1.25D, 40, 20.0F));
-        this.targetSelector.addGoal(3, new NearestAttackableTargetGoal<>(this, PlayerEntity.class, true));
-        this.targetSelector.addGoal(4, new NearestAttackableTargetGoal<>(this, AbstractSurvivorEntity.class, true));
-        this.targetSelector.addGoal(5, new NearestAttackableTargetGoal<>(this, GolemEntity.class, true));
+        this.targetSelector.addGoal(3, StaggeredGoal.target(this, new PrioritizedTargetGoal(this, true)
+                .add(3, PlayerEntity.class)
+                .add(4, AbstractSurvivorEntity.class)
+                .add(5, GolemEntity.class)));
         this.goalSelector.addGoal(6, new WaterAvoidingRandomWalkingGoal(this, 1.0D));
-        this.goalSelector.addGoal(7, new LookAtGoal(this, PlayerEntity.class, 8.0F));
-        this.goalSelector.addGoal(8, new LookAtGoal(this, AbstractSurvivorEntity.class, 8.0F));
-        this.goalSelector.addGoal(9, new LookAtGoal(this, GolemEntity.class, 8.0F));
+        this.goalSelector.addGoal(7, StaggeredGoal.look(this, new LookAtInterestGoal(this, 8.0F)
+                .add(7, PlayerEntity.class)
+                .add(8, AbstractSurvivorEntity.class)
+                .add(9, GolemEntity.class)));
         this.goalSelector.addGoal(10, new LookRandomlyGoal(this));
     }
 
@@ -197,7 +205,7 @@ public class InfectedLlamaEntity extends LlamaEntity {
     }
 
     public void setVariant(int variantIn) {
-        this.dataManager.set(DATA_VARIANT_ID, variantIn);
+        DataWrites.set(this, DATA_VARIANT_ID, variantIn);
     }
 
     @Override
@@ -237,12 +245,15 @@ public class InfectedLlamaEntity extends LlamaEntity {
     }
 
     @Override
-    public void baseTick() {
-        Variables.SaveData.get(world).syncData(world);
-        if (!Variables.SaveData.get(world).Spawn && !Config.COMMON.HerobrineAlwaysSpawns.get()) {
-            this.remove();
-        }
-        super.baseTick();
+    public void onAddedToWorld() {
+        super.onAddedToWorld();
+        ModEntityIndex.onAdded(this);
+    }
+
+    @Override
+    public void onRemovedFromWorld() {
+        super.onRemovedFromWorld();
+        ModEntityIndex.onRemoved(this);
     }
 
     @Nullable
@@ -282,8 +293,24 @@ public class InfectedLlamaEntity extends LlamaEntity {
 
     @Override
     public void tick() {
+        if (!this.activation.shouldTick(this)) {
+            TickActivation.inactiveTick(this);
+            return;
+        }
         super.tick();
-        this.setChested(false);
+        //Infected llamas never carry a chest, only written when one was added so the data manager isn't touched every tick.
+        if (this.hasChest()) {
+            this.setChested(false);
+        }
+    }
+
+    @Override
+    protected void updateEntityActionState() {
+        if (this.activation.shouldRunAI(this)) {
+            super.updateEntityActionState();
+        } else {
+            ++this.idleTime;
+        }
     }
 
     @Override
@@ -315,7 +342,7 @@ public class InfectedLlamaEntity extends LlamaEntity {
     }
 
     public static boolean canSpawn(EntityType<? extends InfectedLlamaEntity> type, @NotNull IWorld worldIn, SpawnReason reason, BlockPos pos, Random randomIn) {
-        return worldIn.getDifficulty() != Difficulty.PEACEFUL && hasViewOfSky(worldIn, pos) && isValidLightLevel(worldIn, pos, randomIn) && canSpawnOn(type, worldIn, reason, pos, randomIn) && Variables.SaveData.get(worldIn.getWorld()).Spawn || worldIn.getDifficulty() != Difficulty.PEACEFUL && hasViewOfSky(worldIn, pos) && isValidLightLevel(worldIn, pos, randomIn) && canSpawnOn(type, worldIn, reason, pos, randomIn) && Config.COMMON.HerobrineAlwaysSpawns.get();
+        return HerobrineActivation.get().isActive() && worldIn.getDifficulty() != Difficulty.PEACEFUL && hasViewOfSky(worldIn, pos) && isValidLightLevel(worldIn, pos, randomIn) && canSpawnOn(type, worldIn, reason, pos, randomIn);
     }
 
     @Override
@@ -1,6 +1,10 @@
 package com.herobrine.mod.entities;
 
 import com.google.common.collect.Maps;
+import com.herobrine.mod.entities.goals.LookAtInterestGoal;
+import com.herobrine.mod.entities.goals.PrioritizedTargetGoal;
+import com.herobrine.mod.entities.goals.StaggeredGoal;
+import com.herobrine.mod.util.entities.DataWrites;
 import com.herobrine.mod.util.entities.EntityRegistry;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -114,15 +118,17 @@ public class InfectedSheepEntity extends AbstractInfectedEntity implements IShea
         this.eatGrassGoal = new EatGrassGoal(this);
         this.goalSelector.addGoal(0, new SwimGoal(this));
         this.goalSelector.addGoal(1, new MeleeAttackGoal(this, 1.0D, true));
-        this.targetSelector.addGoal(2, new NearestAttackableTargetGoal<>(this, PlayerEntity.class, true));
-        this.targetSelector.addGoal(3, new NearestAttackableTargetGoal<>(this, AbstractSurvivorEntity.class, true));
-        this.targetSelector.addGoal(4, new NearestAttackableTargetGoal<>(this, GolemEntity.class, true));
+        this.targetSelector.addGoal(2, StaggeredGoal.target(this, new PrioritizedTargetGoal(this, true)
+                .add(2, PlayerEntity.class)
+                .add(3, AbstractSurvivorEntity.class)
+                .add(4, GolemEntity.class)));
         this.targetSelector.addGoal(5, new HurtByTargetGoal(this));
         this.goalSelector.addGoal(6, this.eatGrassGoal);
         this.goalSelector.addGoal(7, new WaterAvoidingRandomWalkingGoal(this, 1.0D));
-        this.goalSelector.addGoal(8, new LookAtGoal(this, PlayerEntity.class, 8.0F));
-        this.goalSelector.addGoal(9, new LookAtGoal(this, AbstractSurvivorEntity.class, 8.0F));
-        this.goalSelector.addGoal(10, new LookAtGoal(this, GolemEntity.class, 8.0F));
+        this.goalSelector.addGoal(8, StaggeredGoal.look(this, new LookAtInterestGoal(this, 8.0F)
+                .add(8, PlayerEntity.class)
+                .add(9, AbstractSurvivorEntity.class)
+                .add(10, GolemEntity.class)));
         this.goalSelector.addGoal(11, new LookRandomlyGoal(this));
     }
 
@@ -303,7 +309,7 @@ public class InfectedSheepEntity extends AbstractInfectedEntity implements IShea
 
     public void setFleeceColor(@NotNull DyeColor color) {
         byte b0 = this.dataManager.get(DYE_COLOR);
-        this.dataManager.set(DYE_COLOR, (byte)(b0 & 240 | color.getId() & 15));
+        DataWrites.set(this, DYE_COLOR, (byte)(b0 & 240 | color.getId() & 15));
     }
 
     public boolean getSheared() {
@@ -313,9 +319,9 @@ public class InfectedSheepEntity extends AbstractInfectedEntity implements IShea
     public void setSheared(boolean sheared) {
         byte b0 = this.dataManager.get(DYE_COLOR);
         if (sheared) {
-            this.dataManager.set(DYE_COLOR, (byte)(b0 | 16));
+            DataWrites.set(this, DYE_COLOR, (byte)(b0 | 16));
         } else {
-            this.dataManager.set(DYE_COLOR, (byte)(b0 & -17));
+            DataWrites.set(this, DYE_COLOR, (byte)(b0 & -17));
         }
 
     }
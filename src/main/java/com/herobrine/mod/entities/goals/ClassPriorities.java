@@ -0,0 +1,91 @@
+package com.herobrine.mod.entities.goals;
+
+import net.minecraft.entity.EntityPredicate;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+//An ordered list of entity classes with the goal priority each of them used to have, shared by the goals that replace one goal per class.
+//Finds the nearest entity of the best priority with a single entity query.
+public class ClassPriorities {
+    private final List<Class<? extends LivingEntity>> classes = new ArrayList<>();
+    private final List<Integer> priorities = new ArrayList<>();
+    private boolean includesPlayers = false;
+
+    //Classes have to be added best priority first, a lower number is a better priority like with addGoal.
+    public void add(int priority, @NotNull Class<? extends LivingEntity> entityClass) {
+        this.classes.add(entityClass);
+        this.priorities.add(priority);
+        this.includesPlayers |= entityClass.isAssignableFrom(PlayerEntity.class);
+    }
+
+    public int size() {
+        return this.classes.size();
+    }
+
+    public int best() {
+        return this.priorities.isEmpty() ? Integer.MAX_VALUE : this.priorities.get(0);
+    }
+
+    //The priority of the first class the entity is an instance of, or MAX_VALUE if none.
+    public int priorityOf(@Nullable LivingEntity entity) {
+        if (entity != null) {
+            for (int i = 0; i < this.classes.size(); ++i) {
+                if (this.classes.get(i).isInstance(entity)) {
+                    return this.priorities.get(i);
+                }
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    //Nearest entity in the area of the best priority that is better than worseThan and passes the predicate.
+    //Players are not limited to the area, the same as with getClosestPlayer.
+    @Nullable
+    public LivingEntity findNearest(@NotNull MobEntity owner, @NotNull AxisAlignedBB area, @NotNull EntityPredicate predicate, int worseThan) {
+        double x = owner.getPosX();
+        double y = owner.getPosYEye();
+        double z = owner.getPosZ();
+        List<Candidate> candidates = new ArrayList<>();
+        for (LivingEntity entity : owner.world.getEntitiesWithinAABB(LivingEntity.class, area, entity -> !(entity instanceof PlayerEntity))) {
+            int priority = this.priorityOf(entity);
+            if (priority < worseThan) {
+                candidates.add(new Candidate(entity, priority, entity.getDistanceSq(x, y, z)));
+            }
+        }
+        if (this.includesPlayers) {
+            for (PlayerEntity player : owner.world.getPlayers()) {
+                int priority = this.priorityOf(player);
+                if (priority < worseThan) {
+                    candidates.add(new Candidate(player, priority, player.getDistanceSq(x, y, z)));
+                }
+            }
+        }
+        //Cheap ordering first, the predicate may need a line of sight check so it only runs until one candidate passes.
+        candidates.sort((a, b) -> a.priority != b.priority ? Integer.compare(a.priority, b.priority) : Double.compare(a.distanceSq, b.distanceSq));
+        for (Candidate candidate : candidates) {
+            if (predicate.canTarget(owner, candidate.entity)) {
+                return candidate.entity;
+            }
+        }
+        return null;
+    }
+
+    private static class Candidate {
+        private final LivingEntity entity;
+        private final int priority;
+        private final double distanceSq;
+
+        private Candidate(LivingEntity entity, int priority, double distanceSq) {
+            this.entity = entity;
+            this.priority = priority;
+            this.distanceSq = distanceSq;
+        }
+    }
+}
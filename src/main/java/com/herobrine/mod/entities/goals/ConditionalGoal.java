@@ -0,0 +1,49 @@
+package com.herobrine.mod.entities.goals;
+
+import net.minecraft.entity.ai.goal.Goal;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BooleanSupplier;
+
+//Wraps a goal so it can only start and keep running while a condition holds, like a survivor being in the right mode.
+//The goal stays registered the whole time, switching the condition never touches the goal selector.
+public class ConditionalGoal extends Goal {
+    private final Goal goal;
+    private final BooleanSupplier condition;
+
+    public ConditionalGoal(@NotNull Goal goal, @NotNull BooleanSupplier condition) {
+        this.goal = goal;
+        this.condition = condition;
+        this.setMutexFlags(goal.getMutexFlags());
+    }
+
+    @Override
+    public boolean shouldExecute() {
+        return this.condition.getAsBoolean() && this.goal.shouldExecute();
+    }
+
+    @Override
+    public boolean shouldContinueExecuting() {
+        return this.condition.getAsBoolean() && this.goal.shouldContinueExecuting();
+    }
+
+    @Override
+    public boolean isPreemptible() {
+        return this.goal.isPreemptible();
+    }
+
+    @Override
+    public void startExecuting() {
+        this.goal.startExecuting();
+    }
+
+    @Override
+    public void resetTask() {
+        this.goal.resetTask();
+    }
+
+    @Override
+    public void tick() {
+        this.goal.tick();
+    }
+}
@@ -0,0 +1,99 @@
+package com.herobrine.mod.entities.goals;
+
+import com.herobrine.mod.config.ConfigSnapshot;
+import net.minecraft.entity.EntityPredicate;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.MobEntity;
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.util.EntityPredicates;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.EnumSet;
+
+//Does what a stack of LookAtGoals does, with one entity query for all of their classes.
+//The entity it found is kept until the LookRefreshInterval from the config runs out, so looking around again in the meantime costs no query.
+//Like LookAtGoal a mob with an attack target always looks at its target.
+public class LookAtInterestGoal extends Goal {
+    //The chance each LookAtGoal had to start in a tick.
+    private static final float CHANCE_PER_CLASS = 0.02F;
+
+    private final MobEntity entity;
+    private final float maxDistance;
+    private final ClassPriorities classes = new ClassPriorities();
+    private final EntityPredicate predicate;
+    private float chance = 0.0F;
+    private int startInterval = 1;
+    private float startChance = 0.0F;
+    @Nullable
+    private LivingEntity closestEntity;
+    private long refreshAt = Long.MIN_VALUE;
+    private int lookTime;
+
+    public LookAtInterestGoal(@NotNull MobEntity entity, float maxDistance) {
+        this.entity = entity;
+        this.maxDistance = maxDistance;
+        this.predicate = new EntityPredicate().setDistance(maxDistance).allowFriendlyFire().allowInvulnerable().setSkipAttackChecks().setCustomPredicate(EntityPredicates.notRiding(entity)::test);
+        this.setMutexFlags(EnumSet.of(Goal.Flag.LOOK));
+    }
+
+    //Classes have to be added best priority first, a lower number is a better priority like with addGoal.
+    public LookAtInterestGoal add(int priority, @NotNull Class<? extends LivingEntity> watchedClass) {
+        this.classes.add(priority, watchedClass);
+        //Any of the goals it replaces could start.
+        this.chance = 1.0F - (1.0F - this.chance) * (1.0F - CHANCE_PER_CLASS);
+        this.updateStartChance();
+        return this;
+    }
+
+    //Called by StaggeredGoal, which only asks this goal to start every interval evaluations.
+    //The chance is raised to what it adds up to over that many ticks, so mobs still start looking as often.
+    void setStartInterval(int interval) {
+        this.startInterval = interval;
+        this.updateStartChance();
+    }
+
+    private void updateStartChance() {
+        this.startChance = 1.0F - (float) Math.pow(1.0F - this.chance, this.startInterval);
+    }
+
+    @Override
+    public boolean shouldExecute() {
+        if (this.entity.getRNG().nextFloat() >= this.startChance) {
+            return false;
+        }
+        LivingEntity target = this.entity.getAttackTarget();
+        if (target != null) {
+            this.closestEntity = target;
+            return true;
+        }
+        long now = this.entity.world.getGameTime();
+        if (now >= this.refreshAt || this.closestEntity != null && !this.isInRange(this.closestEntity)) {
+            this.closestEntity = this.classes.findNearest(this.entity, this.entity.getBoundingBox().grow(this.maxDistance, 3.0D, this.maxDistance), this.predicate, Integer.MAX_VALUE);
+            this.refreshAt = now + ConfigSnapshot.get().LookRefreshInterval;
+        }
+        return this.closestEntity != null;
+    }
+
+    @Override
+    public boolean shouldContinueExecuting() {
+        return this.isInRange(this.closestEntity) && this.lookTime > 0;
+    }
+
+    @Override
+    public void startExecuting() {
+        this.lookTime = 40 + this.entity.getRNG().nextInt(40);
+    }
+
+    @Override
+    public void tick() {
+        if (this.closestEntity != null) {
+            this.entity.getLookController().setLookPosition(this.closestEntity.getPosX(), this.closestEntity.getPosYEye(), this.closestEntity.getPosZ());
+        }
+        --this.lookTime;
+    }
+
+    private boolean isInRange(@Nullable LivingEntity watched) {
+        return watched != null && watched.isAlive() && this.entity.getDistanceSq(watched) <= (double) (this.maxDistance * this.maxDistance);
+    }
+}
@@ -0,0 +1,110 @@
+package com.herobrine.mod.entities.goals;
+
+import net.minecraft.entity.CreatureEntity;
+import net.minecraft.entity.ai.RandomPositionGenerator;
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.util.EntityPredicates;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.EnumSet;
+import java.util.function.IntSupplier;
+
+//Watches one player and backs off whenever that player comes closer than the observation distance.
+//The observed player is only looked up again every SELECT_INTERVAL ticks, and a flee path is kept until it has been walked,
+//so a watcher does one player lookup per interval instead of one per look and avoid goal per tick.
+public class ObservePlayerGoal extends Goal {
+    private static final int SELECT_INTERVAL = 40;
+    private static final double WATCH_DISTANCE = 1024.0D;
+    //Closer than this a fleeing watcher runs instead of walks, the same as with AvoidEntityGoal.
+    private static final double NEAR_DISTANCE_SQ = 49.0D;
+    //How long to wait before looking for a way out again when there was none.
+    private static final int FLEE_RETRY = 10;
+
+    private final CreatureEntity entity;
+    private final IntSupplier observationDistance;
+    private final double farSpeed;
+    private final double nearSpeed;
+    @Nullable
+    private PlayerEntity observed;
+    private int nextSelect;
+    private boolean fleeing;
+    private int nextFlee;
+
+    public ObservePlayerGoal(@NotNull CreatureEntity entity, @NotNull IntSupplier observationDistance, double farSpeed, double nearSpeed) {
+        this.entity = entity;
+        this.observationDistance = observationDistance;
+        this.farSpeed = farSpeed;
+        this.nearSpeed = nearSpeed;
+        this.nextSelect = Math.floorMod(entity.getEntityId(), SELECT_INTERVAL);
+        this.setMutexFlags(EnumSet.of(Goal.Flag.MOVE, Goal.Flag.LOOK));
+    }
+
+    @Override
+    public boolean shouldExecute() {
+        if (--this.nextSelect <= 0) {
+            this.select();
+        }
+        return this.isWatchable(this.observed);
+    }
+
+    @Override
+    public boolean shouldContinueExecuting() {
+        return this.isWatchable(this.observed);
+    }
+
+    @Override
+    public void resetTask() {
+        this.observed = null;
+        this.fleeing = false;
+        this.entity.getNavigator().clearPath();
+    }
+
+    @Override
+    public void tick() {
+        if (--this.nextSelect <= 0) {
+            this.select();
+            if (!this.isWatchable(this.observed)) {
+                return;
+            }
+        }
+        PlayerEntity player = this.observed;
+        if (player == null) {
+            return;
+        }
+        this.entity.getLookController().setLookPositionWithEntity(player, 30.0F, 30.0F);
+        double distanceSq = this.entity.getDistanceSq(player);
+        double keep = this.observationDistance.getAsInt();
+        if (distanceSq >= keep * keep || !EntityPredicates.CAN_AI_TARGET.test(player)) {
+            return;
+        }
+        if ((!this.fleeing || this.entity.getNavigator().noPath()) && --this.nextFlee <= 0) {
+            this.fleeing = this.flee(player, distanceSq);
+            this.nextFlee = this.fleeing ? 0 : FLEE_RETRY;
+        }
+        if (this.fleeing) {
+            this.entity.getNavigator().setSpeed(distanceSq < NEAR_DISTANCE_SQ ? this.nearSpeed : this.farSpeed);
+        }
+    }
+
+    private void select() {
+        this.nextSelect = SELECT_INTERVAL;
+        this.observed = this.entity.world.getClosestPlayer(this.entity.getPosX(), this.entity.getPosY(), this.entity.getPosZ(), WATCH_DISTANCE, EntityPredicates.NOT_SPECTATING);
+    }
+
+    private boolean flee(@NotNull PlayerEntity player, double distanceSq) {
+        Vec3d away = RandomPositionGenerator.findRandomTargetBlockAwayFrom(this.entity, 16, 7, player.getPositionVec());
+        if (away == null || player.getDistanceSq(away.x, away.y, away.z) < distanceSq) {
+            return false;
+        }
+        Path path = this.entity.getNavigator().getPathToPos(away.x, away.y, away.z, 0);
+        return path != null && this.entity.getNavigator().setPath(path, this.farSpeed);
+    }
+
+    private boolean isWatchable(@Nullable PlayerEntity player) {
+        return player != null && player.isAlive() && !player.isSpectator() && player.world == this.entity.world && this.entity.getDistanceSq(player) <= WATCH_DISTANCE * WATCH_DISTANCE;
+    }
+}
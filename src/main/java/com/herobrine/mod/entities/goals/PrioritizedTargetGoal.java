@@ -0,0 +1,87 @@
+package com.herobrine.mod.entities.goals;
+
+import net.minecraft.entity.EntityPredicate;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.MobEntity;
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.entity.ai.goal.TargetGoal;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.EnumSet;
+
+//Does what a stack of NearestAttackableTargetGoals does, with one entity query per search instead of one per class.
+//Every class is added with the priority its own goal used to have. The goal picks the nearest candidate of the best priority,
+//and like a better goal preempting a worse one it switches to a better priority target once one shows up.
+public class PrioritizedTargetGoal extends TargetGoal {
+    //Same odds of searching in a tick as NearestAttackableTargetGoal.
+    private static final int TARGET_CHANCE = 10;
+
+    private final ClassPriorities classes = new ClassPriorities();
+    private final EntityPredicate targetEntitySelector;
+    private float startChance = 1.0F / TARGET_CHANCE;
+    @Nullable
+    private LivingEntity nearestTarget;
+    private int targetPriority = Integer.MAX_VALUE;
+
+    public PrioritizedTargetGoal(@NotNull MobEntity goalOwner, boolean checkSight) {
+        super(goalOwner, checkSight);
+        this.setMutexFlags(EnumSet.of(Goal.Flag.TARGET));
+        this.targetEntitySelector = new EntityPredicate().setDistance(this.getTargetDistance());
+    }
+
+    //Classes have to be added best priority first, a lower number is a better priority like with addGoal.
+    public PrioritizedTargetGoal add(int priority, @NotNull Class<? extends LivingEntity> targetClass) {
+        this.classes.add(priority, targetClass);
+        return this;
+    }
+
+    @Override
+    public boolean shouldExecute() {
+        if (this.goalOwner.getRNG().nextFloat() >= this.startChance) {
+            return false;
+        }
+        this.nearestTarget = this.findTarget(Integer.MAX_VALUE);
+        return this.nearestTarget != null;
+    }
+
+    //Called by StaggeredGoal, which only asks this goal to start every interval evaluations.
+    //The chance is raised to what it adds up to over that many ticks, so targets are still picked up as quickly.
+    void setStartInterval(int interval) {
+        this.startChance = 1.0F - (float) Math.pow(1.0F - 1.0F / TARGET_CHANCE, interval);
+    }
+
+    @Override
+    public void startExecuting() {
+        this.goalOwner.setAttackTarget(this.nearestTarget);
+        this.targetPriority = this.classes.priorityOf(this.nearestTarget);
+        super.startExecuting();
+    }
+
+    @Override
+    public void resetTask() {
+        super.resetTask();
+        this.nearestTarget = null;
+        this.targetPriority = Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void tick() {
+        //Only a better priority than the current target is looked for, as a worse goal never preempts a better one.
+        if (this.targetPriority > this.classes.best() && this.goalOwner.getRNG().nextInt(TARGET_CHANCE) == 0) {
+            LivingEntity better = this.findTarget(this.targetPriority);
+            if (better != null) {
+                this.nearestTarget = better;
+                this.target = better;
+                this.targetPriority = this.classes.priorityOf(better);
+                this.goalOwner.setAttackTarget(better);
+            }
+        }
+    }
+
+    @Nullable
+    private LivingEntity findTarget(int worseThan) {
+        double range = this.getTargetDistance();
+        return this.classes.findNearest(this.goalOwner, this.goalOwner.getBoundingBox().grow(range, 4.0D, range), this.targetEntitySelector, worseThan);
+    }
+}
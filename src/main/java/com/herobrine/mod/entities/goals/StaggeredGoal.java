@@ -0,0 +1,71 @@
+package com.herobrine.mod.entities.goals;
+
+import net.minecraft.entity.MobEntity;
+import net.minecraft.entity.ai.goal.Goal;
+import org.jetbrains.annotations.NotNull;
+
+//Wraps a goal so the goal selector only asks it whether it should start every few evaluations instead of every tick.
+//The first evaluation is offset by the entity id, so mobs loaded together don't all search in the same tick.
+//Once the goal runs it is continued and ticked as usual, only the start check is spread out.
+//Only goals with an entity query are wrapped, and they raise their own random start chance to match the interval, so mobs still pick up targets and start looking as often as before.
+//It counts evaluations instead of using the game time, as mobs with a reduced tick only evaluate their goals every other tick.
+public class StaggeredGoal extends Goal {
+    //Target and look goals search for entities, swim, melee and look randomly goals stay unwrapped and are checked every tick.
+    public static final int TARGET_INTERVAL = 2;
+    public static final int LOOK_INTERVAL = 4;
+
+    private final Goal goal;
+    private final int interval;
+    private int cooldown;
+
+    private StaggeredGoal(@NotNull MobEntity owner, @NotNull Goal goal, int interval) {
+        this.goal = goal;
+        this.interval = interval;
+        this.cooldown = 1 + Math.floorMod(owner.getEntityId(), interval);
+        this.setMutexFlags(goal.getMutexFlags());
+    }
+
+    public static @NotNull StaggeredGoal target(@NotNull MobEntity owner, @NotNull PrioritizedTargetGoal goal) {
+        goal.setStartInterval(TARGET_INTERVAL);
+        return new StaggeredGoal(owner, goal, TARGET_INTERVAL);
+    }
+
+    public static @NotNull StaggeredGoal look(@NotNull MobEntity owner, @NotNull LookAtInterestGoal goal) {
+        goal.setStartInterval(LOOK_INTERVAL);
+        return new StaggeredGoal(owner, goal, LOOK_INTERVAL);
+    }
+
+    @Override
+    public boolean shouldExecute() {
+        if (--this.cooldown > 0) {
+            return false;
+        }
+        this.cooldown = this.interval;
+        return this.goal.shouldExecute();
+    }
+
+    @Override
+    public boolean shouldContinueExecuting() {
+        return this.goal.shouldContinueExecuting();
+    }
+
+    @Override
+    public boolean isPreemptible() {
+        return this.goal.isPreemptible();
+    }
+
+    @Override
+    public void startExecuting() {
+        this.goal.startExecuting();
+    }
+
+    @Override
+    public void resetTask() {
+        this.goal.resetTask();
+    }
+
+    @Override
+    public void tick() {
+        this.goal.tick();
+    }
+}
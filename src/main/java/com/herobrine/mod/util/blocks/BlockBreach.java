@@ -0,0 +1,107 @@
+package com.herobrine.mod.util.blocks;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.server.ServerWorld;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+//Breaks a group of blocks at once, for mobs that tear through walls.
+//Does the same as calling destroyBlock with drops for every block, except the neighbours are only told about it once all of the group is gone
+//and only by the blocks on its edge, and the drops of all blocks are merged into as few stacks as possible and dropped in the middle of the group.
+//Forge's destroy events have to be fired by the caller while it picks the blocks.
+public class BlockBreach {
+    //Send the change to clients and update the shape of connected blocks, but leave out the neighbour notifications that are done in one pass at the end.
+    private static final int REMOVE_FLAGS = 2;
+
+    private final ServerWorld world;
+    private final Entity breaker;
+    private final Set<BlockPos> positions = new LinkedHashSet<>();
+
+    public BlockBreach(@NotNull ServerWorld world, @NotNull Entity breaker) {
+        this.world = world;
+        this.breaker = breaker;
+    }
+
+    public void add(@NotNull BlockPos pos) {
+        this.positions.add(pos.toImmutable());
+    }
+
+    //Returns how many blocks were broken.
+    public int breakAll() {
+        List<ItemStack> drops = new ArrayList<>();
+        Map<BlockPos, Block> removed = new LinkedHashMap<>();
+        double x = 0.0D;
+        double y = 0.0D;
+        double z = 0.0D;
+        for (BlockPos pos : this.positions) {
+            BlockState state = this.world.getBlockState(pos);
+            if (state.isAir(this.world, pos)) {
+                continue;
+            }
+            TileEntity tileEntity = state.hasTileEntity() ? this.world.getTileEntity(pos) : null;
+            for (ItemStack stack : Block.getDrops(state, this.world, pos, tileEntity, this.breaker, ItemStack.EMPTY)) {
+                merge(drops, stack);
+            }
+            state.spawnAdditionalDrops(this.world, pos, ItemStack.EMPTY);
+            this.world.playEvent(2001, pos, Block.getStateId(state));
+            if (this.world.setBlockState(pos, this.world.getFluidState(pos).getBlockState(), REMOVE_FLAGS)) {
+                removed.put(pos, state.getBlock());
+                x += pos.getX();
+                y += pos.getY();
+                z += pos.getZ();
+            }
+        }
+        //Only the blocks on the edge of the group notify their neighbours, the same way setBlockState would, so Forge's neighbour event and comparators still see it.
+        //A block with every side inside the group has nothing left to tell.
+        for (Map.Entry<BlockPos, Block> entry : removed.entrySet()) {
+            BlockPos pos = entry.getKey();
+            if (this.isOnEdge(pos, removed.keySet())) {
+                this.world.notifyNeighborsOfStateChange(pos, entry.getValue());
+                BlockState now = this.world.getBlockState(pos);
+                if (now.hasComparatorInputOverride()) {
+                    this.world.updateComparatorOutputLevel(pos, now.getBlock());
+                }
+            }
+        }
+        if (!removed.isEmpty()) {
+            BlockPos middle = new BlockPos(x / removed.size(), y / removed.size(), z / removed.size());
+            for (ItemStack stack : drops) {
+                Block.spawnAsEntity(this.world, middle, stack);
+            }
+        }
+        this.positions.clear();
+        return removed.size();
+    }
+
+    private boolean isOnEdge(@NotNull BlockPos pos, @NotNull Set<BlockPos> removed) {
+        for (Direction direction : Direction.values()) {
+            if (!removed.contains(pos.offset(direction))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void merge(@NotNull List<ItemStack> drops, @NotNull ItemStack stack) {
+        for (ItemStack drop : drops) {
+            if (stack.isEmpty()) {
+                return;
+            }
+            if (drop.getCount() < drop.getMaxStackSize() && ItemStack.areItemsEqual(drop, stack) && ItemStack.areItemStackTagsEqual(drop, stack)) {
+                int moved = Math.min(stack.getCount(), drop.getMaxStackSize() - drop.getCount());
+                drop.grow(moved);
+                stack.shrink(moved);
+            }
+        }
+        if (!stack.isEmpty()) {
+            drops.add(stack);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.herobrine.mod.util.blocks;
+
+import com.herobrine.mod.HerobrineMod;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.material.Material;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.resources.IResourceManagerReloadListener;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.Tag;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerAboutToStartEvent;
+import net.minecraftforge.fml.event.server.FMLServerStartedEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+//Which block states a Herobrine warrior may break when it can't reach its target, one bit per state id.
+//The table only depends on the block tags, so it is marked stale whenever the server loads or reloads its data
+//and rebuilt the next time a warrior asks, on the server thread.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class WarriorBreakableBlocks {
+    //Blocks in any of these are left alone, they are either indestructible for bosses or would just be knocked over.
+    private static final List<Tag<Block>> PROTECTED = Arrays.asList(BlockTags.WITHER_IMMUNE, BlockTags.DRAGON_IMMUNE, BlockTags.BEDS, BlockTags.CROPS, BlockTags.CARPETS, BlockTags.BUTTONS, BlockTags.WOODEN_BUTTONS, BlockTags.CORAL_PLANTS, BlockTags.CORALS, BlockTags.FLOWER_POTS, BlockTags.PORTALS, BlockTags.RAILS, BlockTags.SAPLINGS, BlockTags.SMALL_FLOWERS, BlockTags.SIGNS, BlockTags.STANDING_SIGNS, BlockTags.UNDERWATER_BONEMEALS, BlockTags.WALL_CORALS, BlockTags.WALL_SIGNS, BlockTags.TALL_FLOWERS, BlockTags.WOODEN_PRESSURE_PLATES);
+    private static final List<Fluid> FLUIDS = Arrays.asList(Fluids.EMPTY, Fluids.WATER, Fluids.LAVA, Fluids.FLOWING_LAVA, Fluids.FLOWING_WATER);
+
+    private static volatile boolean stale = true;
+    private static BitSet breakable = new BitSet();
+
+    public static boolean isBreakable(@NotNull BlockState state) {
+        if (stale) {
+            stale = false;
+            breakable = build();
+        }
+        return breakable.get(Block.getStateId(state));
+    }
+
+    //Public so it can be benchmarked on its own.
+    public static @NotNull BitSet build() {
+        BitSet table = new BitSet(Block.BLOCK_STATE_IDS.size());
+        for (BlockState state : Block.BLOCK_STATE_IDS) {
+            if (test(state)) {
+                table.set(Block.getStateId(state));
+            }
+        }
+        return table;
+    }
+
+    //Everything about a state that doesn't depend on where it is placed.
+    private static boolean test(@NotNull BlockState state) {
+        if (state.isAir() || state.getMaterial() == Material.FIRE) {
+            return false;
+        }
+        for (Fluid fluid : FLUIDS) {
+            if (state.isReplaceable(fluid)) {
+                return false;
+            }
+        }
+        for (Tag<Block> tag : PROTECTED) {
+            if (tag.contains(state.getBlock())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void markStale() {
+        stale = true;
+    }
+
+    //Tags are applied by an earlier listener of the same reload, so they are already up to date when this runs.
+    @SubscribeEvent
+    public static void onServerAboutToStart(@NotNull FMLServerAboutToStartEvent event) {
+        event.getServer().getResourceManager().addReloadListener((IResourceManagerReloadListener) resourceManager -> markStale());
+    }
+
+    @SubscribeEvent
+    public static void onServerStarted(FMLServerStartedEvent event) {
+        markStale();
+    }
+}
@@ -0,0 +1,87 @@
+package com.herobrine.mod.util.commands;
+
+import com.herobrine.mod.HerobrineMod;
+import com.herobrine.mod.config.ConfigSnapshot;
+import com.herobrine.mod.util.entities.DataWrites;
+import com.herobrine.mod.util.entities.EntityRegistry;
+import com.herobrine.mod.util.entities.ModEntityIndex;
+import com.herobrine.mod.util.entities.SpawnTableReloader;
+import com.herobrine.mod.util.entities.SurvivorRegistry;
+import com.herobrine.mod.util.entities.TimingWheel;
+import com.herobrine.mod.util.network.OutboundQueue;
+import com.herobrine.mod.util.network.PacketTargets;
+import com.herobrine.mod.util.savedata.Variables;
+import com.mojang.brigadier.CommandDispatcher;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.entity.EntityType;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.world.biome.Biome;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStartingEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+//The /herobrine command, used by server owners to see what the mod is doing.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class HerobrineCommand {
+    @SubscribeEvent
+    public static void onServerStarting(@NotNull FMLServerStartingEvent event) {
+        register(event.getCommandDispatcher());
+    }
+
+    public static void register(@NotNull CommandDispatcher<CommandSource> dispatcher) {
+        dispatcher.register(Commands.literal(HerobrineMod.MODID).requires(source -> source.hasPermissionLevel(2))
+                .then(Commands.literal("network").executes(context -> {
+                    context.getSource().sendFeedback(new StringTextComponent("Mod messages sent: " + PacketTargets.getSent() + ", sends avoided: " + PacketTargets.getAvoided() + ", messages coalesced: " + OutboundQueue.getCoalesced() + ", packets flushed: " + OutboundQueue.getPackets()), false);
+                    return 1;
+                }))
+                .then(Commands.literal("entities").executes(context -> {
+                    ModEntityIndex index = ModEntityIndex.get(context.getSource().getWorld());
+                    TimingWheel timers = TimingWheel.get(context.getSource().getWorld());
+                    context.getSource().sendFeedback(new StringTextComponent("Herobrine and infected mobs in this dimension: " + index.size() + ", timers pending: " + timers.getPending() + ", timers run: " + timers.getFired() + ", survivors: " + SurvivorRegistry.get(context.getSource().getWorld()).size()), false);
+                    for (Map.Entry<EntityType<?>, Integer> entry : index.countByType().entrySet()) {
+                        context.getSource().sendFeedback(new StringTextComponent(" " + EntityType.getKey(entry.getKey()) + ": " + entry.getValue()), false);
+                    }
+                    return index.size();
+                }))
+                .then(Commands.literal("tracker").executes(context -> {
+                    Map<EntityType<?>, int[]> counts = DataWrites.getLastSecond();
+                    context.getSource().sendFeedback(new StringTextComponent("Synced data updates in the last second, by entity type:"), false);
+                    int updates = 0;
+                    for (Map.Entry<EntityType<?>, int[]> entry : counts.entrySet()) {
+                        context.getSource().sendFeedback(new StringTextComponent(" " + EntityType.getKey(entry.getKey()) + ": " + entry.getValue()[0] + " sent, " + entry.getValue()[1] + " skipped"), false);
+                        updates += entry.getValue()[0];
+                    }
+                    return updates;
+                }))
+                .then(Commands.literal("spawns").executes(context -> {
+                    Map<Biome, List<Biome.SpawnListEntry>> spawns = EntityRegistry.getAppliedSpawns();
+                    int entries = 0;
+                    for (List<Biome.SpawnListEntry> biomeSpawns : spawns.values()) {
+                        entries += biomeSpawns.size();
+                    }
+                    ConfigSnapshot config = ConfigSnapshot.get();
+                    context.getSource().sendFeedback(new StringTextComponent("Spawn table: " + entries + " entries in " + spawns.size() + " biomes, recompiled " + SpawnTableReloader.getCompiles() + " times since start"), false);
+                    context.getSource().sendFeedback(new StringTextComponent("Structure weights: trapped house " + config.TrappedHouseWeight + ", shrine remnants " + config.ShrineRemnantWeight + ", statue " + config.HerobrineStatueWeight + ", survivor base " + config.SurvivorBaseWeight), false);
+                    return entries;
+                }))
+                .then(Commands.literal("altar")
+                        .then(Commands.literal("activate").executes(context -> setAltar(context.getSource(), true)))
+                        .then(Commands.literal("purify").executes(context -> setAltar(context.getSource(), false))))
+        );
+    }
+
+    //Same as using the altar, only a real change is synced to players.
+    private static int setAltar(@NotNull CommandSource source, boolean activated) {
+        if (Variables.SaveData.get(source.getWorld()).setSpawn(activated)) {
+            source.sendFeedback(new StringTextComponent(activated ? "Herobrine has been summoned." : "Herobrine has been banished."), true);
+            return 1;
+        }
+        source.sendErrorMessage(new StringTextComponent(activated ? "Herobrine is already summoned." : "Herobrine is already banished."));
+        return 0;
+    }
+}
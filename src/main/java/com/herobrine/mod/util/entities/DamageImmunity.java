@@ -0,0 +1,125 @@
+package com.herobrine.mod.util.entities;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.herobrine.mod.HerobrineMod;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.IResourceManager;
+import net.minecraft.resources.IResourceManagerReloadListener;
+import net.minecraft.util.DamageSource;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerAboutToStartEvent;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+//The damage a mob type shrugs off, one profile per entity type.
+//Profiles are defined in data/<namespace>/damage_immunity, so a data pack can replace or add them, and are rebuilt whenever the server loads or reloads its data.
+//Damage types are matched by name, so sources made with new DamageSource("magic") and modded sources of a listed type count as well.
+//Projectiles are listed by class name and matched with isInstance, so subclasses such as modded potions are covered as well.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class DamageImmunity {
+    public static final DamageImmunity NONE = new DamageImmunity(Collections.emptySet(), Collections.emptyList());
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final String DIRECTORY = "damage_immunity";
+    //Replaced as a whole on every reload.
+    private static volatile Map<EntityType<?>, DamageImmunity> profiles = Collections.emptyMap();
+
+    private final Set<String> damageTypes;
+    private final List<Class<?>> projectiles;
+
+    private DamageImmunity(Set<String> damageTypes, List<Class<?>> projectiles) {
+        this.damageTypes = damageTypes;
+        this.projectiles = projectiles;
+    }
+
+    //Look the profile up on every hit instead of keeping it, it changes when the data is reloaded.
+    public static @NotNull DamageImmunity get(@NotNull EntityType<?> type) {
+        return profiles.getOrDefault(type, NONE);
+    }
+
+    public boolean isImmune(@NotNull DamageSource source) {
+        if (this.damageTypes.contains(source.getDamageType())) {
+            return true;
+        }
+        Entity immediate = source.getImmediateSource();
+        if (immediate == null) {
+            return false;
+        }
+        for (Class<?> projectile : this.projectiles) {
+            if (projectile.isInstance(immediate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //Runs on the server thread as part of every data reload, the same as the tags the warrior's breakable blocks come from.
+    @SubscribeEvent
+    public static void onServerAboutToStart(@NotNull FMLServerAboutToStartEvent event) {
+        event.getServer().getResourceManager().addReloadListener((IResourceManagerReloadListener) DamageImmunity::load);
+    }
+
+    //A file that can't be read is skipped with an error in the log, the other profiles still load.
+    private static void load(@NotNull IResourceManager resourceManager) {
+        Map<EntityType<?>, DamageImmunity> loaded = new HashMap<>();
+        for (ResourceLocation location : resourceManager.getAllResourceLocations(DIRECTORY, path -> path.endsWith(".json"))) {
+            try (IResource resource = resourceManager.getResource(location);
+                 Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+                loadProfile(new Gson().fromJson(reader, JsonObject.class), loaded, location.toString());
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("[The Legend of Herobrine] Could not load damage immunity profile " + location, e);
+            }
+        }
+        profiles = loaded;
+    }
+
+    private static void loadProfile(JsonObject json, Map<EntityType<?>, DamageImmunity> loaded, String name) {
+        Set<String> damageTypes = new HashSet<>();
+        for (JsonElement element : JSONUtils.getJsonArray(json, "damage_types", new JsonArray())) {
+            damageTypes.add(element.getAsString());
+        }
+        List<Class<?>> projectiles = new ArrayList<>();
+        for (JsonElement element : JSONUtils.getJsonArray(json, "projectiles", new JsonArray())) {
+            projectiles.add(projectileClass(element.getAsString(), name));
+        }
+        DamageImmunity profile = new DamageImmunity(damageTypes, projectiles);
+        for (JsonElement element : JSONUtils.getJsonArray(json, "entities")) {
+            loaded.put(entityType(element.getAsString(), name), profile);
+        }
+    }
+
+    private static EntityType<?> entityType(String id, String name) {
+        ResourceLocation location = new ResourceLocation(id);
+        if (!ForgeRegistries.ENTITIES.containsKey(location)) {
+            throw new IllegalStateException("[The Legend of Herobrine] Unknown entity " + id + " in damage immunity profile " + name + ".");
+        }
+        return ForgeRegistries.ENTITIES.getValue(location);
+    }
+
+    private static Class<?> projectileClass(String className, String name) {
+        try {
+            Class<?> projectile = Class.forName(className, false, DamageImmunity.class.getClassLoader());
+            if (!Entity.class.isAssignableFrom(projectile)) {
+                throw new IllegalStateException("[The Legend of Herobrine] Projectile " + className + " in damage immunity profile " + name + " is not an entity.");
+            }
+            return projectile;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("[The Legend of Herobrine] Unknown projectile class " + className + " in damage immunity profile " + name + ".", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.herobrine.mod.util.entities;
+
+import com.herobrine.mod.HerobrineMod;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.network.datasync.DataParameter;
+import net.minecraft.network.datasync.EntityDataManager;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+//Writes to the synced data of the mod's entities and counts them per entity type on the server for the tracker command.
+//A write that changes the value is sent to the players tracking the entity, one that doesn't is counted as skipped.
+//The comparison is only there for these counts, EntityDataManager.set already ignores a write of the value it holds.
+//The counts are kept per second, so a type that suddenly sends a lot more updates shows up with the tracker command.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class DataWrites {
+    private static Map<EntityType<?>, int[]> counting = new HashMap<>();
+    private static Map<EntityType<?>, int[]> lastSecond = Collections.emptyMap();
+    private static int ticks = 0;
+
+    //Returns true if the value changed.
+    public static <T> boolean set(@NotNull Entity entity, @NotNull DataParameter<T> key, @NotNull T value) {
+        EntityDataManager dataManager = entity.getDataManager();
+        boolean changed = !Objects.equals(dataManager.get(key), value);
+        dataManager.set(key, value);
+        if (!entity.world.isRemote) {
+            ++counting.computeIfAbsent(entity.getType(), type -> new int[2])[changed ? 0 : 1];
+        }
+        return changed;
+    }
+
+    //Updates sent and writes skipped per entity type in the last full second.
+    public static @NotNull Map<EntityType<?>, int[]> getLastSecond() {
+        return lastSecond;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.@NotNull ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && ++ticks >= 20) {
+            ticks = 0;
+            lastSecond = counting;
+            counting = new HashMap<>();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(FMLServerStoppedEvent event) {
+        counting = new HashMap<>();
+        lastSecond = Collections.emptyMap();
+        ticks = 0;
+    }
+}
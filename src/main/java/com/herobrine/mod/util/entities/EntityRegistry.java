@@ -1,7 +1,7 @@
 package com.herobrine.mod.util.entities;
 
 import com.herobrine.mod.HerobrineMod;
-import com.herobrine.mod.config.Config;
+import com.herobrine.mod.config.ConfigSnapshot;
 import com.herobrine.mod.entities.*;
 import com.herobrine.mod.util.items.ItemList;
 import net.minecraft.entity.EntityClassification;
@@ -18,7 +18,7 @@ import net.minecraftforge.common.BiomeDictionary;
 import net.minecraftforge.event.RegistryEvent;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Set;
+import java.util.*;
 
 @SuppressWarnings("unchecked")
 public class EntityRegistry {
@@ -34,7 +34,7 @@ public class EntityRegistry {
     public static EntityType<HerobrineSpyEntity> HEROBRINE_SPY_ENTITY = (EntityType<HerobrineSpyEntity>) EntityType.Builder.create((EntityType<HerobrineSpyEntity> type, World worldIn) -> new HerobrineSpyEntity(worldIn), EntityClassification.MONSTER).size(0.6F, 1.95F).build("herobrine_spy").setRegistryName("herobrine_spy");
     public static EntityType<HerobrineBuilderEntity> HEROBRINE_BUILDER_ENTITY = (EntityType<HerobrineBuilderEntity>) EntityType.Builder.create((EntityType<HerobrineBuilderEntity> type, World worldIn) -> new HerobrineBuilderEntity(worldIn), EntityClassification.MONSTER).size(0.6F, 1.95F).build("herobrine_builder").setRegistryName("herobrine_builder");
     public static EntityType<HerobrineMageEntity> HEROBRINE_MAGE_ENTITY = (EntityType<HerobrineMageEntity>) EntityType.Builder.create((EntityType<HerobrineMageEntity> type, World worldIn) -> new HerobrineMageEntity(worldIn), EntityClassification.MONSTER).size(0.6F, 1.95F).build("herobrine_mage").setRegistryName("herobrine_mage");
-    public static EntityType<FakeHerobrineMageEntity> FAKE_HEROBRINE_MAGE_ENTITY = (EntityType<FakeHerobrineMageEntity>) EntityType.Builder.create((EntityType<FakeHerobrineMageEntity> type, World worldIn) -> new FakeHerobrineMageEntity(worldIn), EntityClassification.MONSTER).size(0.6F, 1.95F).build("fake_herobrine_mage").setRegistryName("fake_herobrine_mage");
+    public static EntityType<FakeHerobrineMageEntity> FAKE_HEROBRINE_MAGE_ENTITY = (EntityType<FakeHerobrineMageEntity>) EntityType.Builder.create((EntityType<FakeHerobrineMageEntity> type, World worldIn) -> new FakeHerobrineMageEntity(worldIn), EntityClassification.MISC).size(0.6F, 1.95F).build("fake_herobrine_mage").setRegistryName("fake_herobrine_mage");
     public static EntityType<SteveSurvivorEntity> STEVE_SURVIVOR_ENTITY = (EntityType<SteveSurvivorEntity>) EntityType.Builder.create((EntityType<SteveSurvivorEntity> type, World worldIn) -> new SteveSurvivorEntity(worldIn), EntityClassification.CREATURE).size(0.6F, 1.8F).build("steve_survivor").setRegistryName("steve_survivor");
     public static EntityType<AlexSurvivorEntity> ALEX_SURVIVOR_ENTITY = (EntityType<AlexSurvivorEntity>) EntityType.Builder.create((EntityType<AlexSurvivorEntity> type, World worldIn) -> new AlexSurvivorEntity(worldIn), EntityClassification.CREATURE).size(0.6F, 1.8F).build("alex_survivor").setRegistryName("alex_survivor");
     public static EntityType<InfectedWolfEntity> INFECTED_WOLF_ENTITY = (EntityType<InfectedWolfEntity>) EntityType.Builder.create((EntityType<InfectedWolfEntity> type, World worldIn) -> new InfectedWolfEntity(worldIn), EntityClassification.MONSTER).size(0.6F, 0.85F).build("infected_wolf").setRegistryName("infected_wolf");
@@ -86,7 +86,37 @@ public class EntityRegistry {
         EntitySpawnPlacementRegistry.register(EntityRegistry.INFECTED_VILLAGER_ENTITY, EntitySpawnPlacementRegistry.PlacementType.ON_GROUND, Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, InfectedVillagerEntity::canSpawn);
     }
 
+    //Spawn entries this mod added to the biome spawn lists, kept so they can be swapped out when the weights change.
+    private static Map<Biome, List<Biome.SpawnListEntry>> appliedSpawns = Collections.emptyMap();
+
     public static void registerEntityWorldSpawns() {
+        applyEntityWorldSpawns(compileEntityWorldSpawns(ConfigSnapshot.get()));
+    }
+
+    //Replaces the previous entries in one go. Must run on the server thread between ticks, so a spawn cycle never sees half a table.
+    public static synchronized void applyEntityWorldSpawns(@NotNull Map<Biome, List<Biome.SpawnListEntry>> spawns) {
+        for (Map.Entry<Biome, List<Biome.SpawnListEntry>> entry : appliedSpawns.entrySet()) {
+            entry.getKey().getSpawns(EntityClassification.MONSTER).removeAll(entry.getValue());
+        }
+        for (Map.Entry<Biome, List<Biome.SpawnListEntry>> entry : spawns.entrySet()) {
+            entry.getKey().getSpawns(EntityClassification.MONSTER).addAll(entry.getValue());
+        }
+        appliedSpawns = spawns;
+    }
+
+    public static synchronized Map<Biome, List<Biome.SpawnListEntry>> getAppliedSpawns() {
+        return appliedSpawns;
+    }
+
+    private static void addSpawn(@NotNull Map<Biome, List<Biome.SpawnListEntry>> spawns, Biome biome, EntityType<?> type, int weight, int minGroupCount, int maxGroupCount) {
+        //A weight of 0 disables the mob, so it does not get an entry at all.
+        if (weight > 0) {
+            spawns.computeIfAbsent(biome, key -> new ArrayList<>()).add(new Biome.SpawnListEntry(type, weight, minGroupCount, maxGroupCount));
+        }
+    }
+
+    public static @NotNull Map<Biome, List<Biome.SpawnListEntry>> compileEntityWorldSpawns(@NotNull ConfigSnapshot config) {
+        Map<Biome, List<Biome.SpawnListEntry>> spawns = new HashMap<>();
         BiomeDictionary.Type[] InfectedVillagerTypes = {
                 BiomeDictionary.Type.CONIFEROUS,
                 BiomeDictionary.Type.PLAINS,
@@ -186,78 +216,78 @@ public class EntityRegistry {
         for (BiomeDictionary.Type t : InfectedVillagerTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_VILLAGER_ENTITY, Config.COMMON.InfectedMobWeight.get(), 1, 4));
+                addSpawn(spawns, currentBiome, INFECTED_VILLAGER_ENTITY, config.InfectedMobWeight, 1, 4);
             }
         }
 
         for (BiomeDictionary.Type t : InfectedRabbitTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_RABBIT_ENTITY, Config.COMMON.InfectedMobWeight.get(), 2, 3));
+                addSpawn(spawns, currentBiome, INFECTED_RABBIT_ENTITY, config.InfectedMobWeight, 2, 3);
             }
         }
 
         for (BiomeDictionary.Type t : InfectedHorseTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_HORSE_ENTITY, Config.COMMON.InfectedMobWeight.get(), 2, 6));
+                addSpawn(spawns, currentBiome, INFECTED_HORSE_ENTITY, config.InfectedMobWeight, 2, 6);
             }
         }
 
         for (BiomeDictionary.Type t : PlainsTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_DONKEY_ENTITY, Config.COMMON.InfectedMobWeight.get(), 1, 3));
+                addSpawn(spawns, currentBiome, INFECTED_DONKEY_ENTITY, config.InfectedMobWeight, 1, 3);
             }
         }
 
         for (BiomeDictionary.Type t : SavannaTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_LLAMA_ENTITY, Config.COMMON.InfectedMobWeight.get(), 4, 4));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_DONKEY_ENTITY, Config.COMMON.InfectedMobWeight.get(), 1, 1));
+                addSpawn(spawns, currentBiome, INFECTED_LLAMA_ENTITY, config.InfectedMobWeight, 4, 4);
+                addSpawn(spawns, currentBiome, INFECTED_DONKEY_ENTITY, config.InfectedMobWeight, 1, 1);
             }
         }
 
         for (BiomeDictionary.Type t : MountainTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_LLAMA_ENTITY, Config.COMMON.InfectedMobWeight.get(), 4, 6));
+                addSpawn(spawns, currentBiome, INFECTED_LLAMA_ENTITY, config.InfectedMobWeight, 4, 6);
             }
         }
 
         for (BiomeDictionary.Type t : InfectedWolfTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_WOLF_ENTITY, Config.COMMON.InfectedMobWeight.get(), 4, 4));
+                addSpawn(spawns, currentBiome, INFECTED_WOLF_ENTITY, config.InfectedMobWeight, 4, 4);
             }
         }
 
         for (BiomeDictionary.Type t : InfectedAnimalTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_PIG_ENTITY, Config.COMMON.InfectedMobWeight.get(), 3, 6));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_COW_ENTITY, Config.COMMON.InfectedMobWeight.get(), 2, 4));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_CHICKEN_ENTITY, Config.COMMON.InfectedMobWeight.get(), 4, 8));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_SHEEP_ENTITY, Config.COMMON.InfectedMobWeight.get(), 3, 6));
+                addSpawn(spawns, currentBiome, INFECTED_PIG_ENTITY, config.InfectedMobWeight, 3, 6);
+                addSpawn(spawns, currentBiome, INFECTED_COW_ENTITY, config.InfectedMobWeight, 2, 4);
+                addSpawn(spawns, currentBiome, INFECTED_CHICKEN_ENTITY, config.InfectedMobWeight, 4, 8);
+                addSpawn(spawns, currentBiome, INFECTED_SHEEP_ENTITY, config.InfectedMobWeight, 3, 6);
             }
         }
 
         for (BiomeDictionary.Type t : MushroomBiomeTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_MOOSHROOM_ENTITY, 1, 1, 1));
+                addSpawn(spawns, currentBiome, INFECTED_MOOSHROOM_ENTITY, 1, 1, 1);
             }
         }
 
         for (BiomeDictionary.Type t : HerobrineTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_BUILDER_ENTITY, Config.COMMON.HerobrineBuilderWeight.get(), 1, 1));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_MAGE_ENTITY, Config.COMMON.HerobrineMageWeight.get(), 1, 1));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_SPY_ENTITY, Config.COMMON.HerobrineSpyWeight.get(), 1, 1));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_WARRIOR_ENTITY, Config.COMMON.HerobrineWarriorWeight.get(), 1, 1));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(INFECTED_BAT_ENTITY, (int) (Config.COMMON.InfectedMobWeight.get() * 2.5), 1, 1));
+                addSpawn(spawns, currentBiome, HEROBRINE_BUILDER_ENTITY, config.HerobrineBuilderWeight, 1, 1);
+                addSpawn(spawns, currentBiome, HEROBRINE_MAGE_ENTITY, config.HerobrineMageWeight, 1, 1);
+                addSpawn(spawns, currentBiome, HEROBRINE_SPY_ENTITY, config.HerobrineSpyWeight, 1, 1);
+                addSpawn(spawns, currentBiome, HEROBRINE_WARRIOR_ENTITY, config.HerobrineWarriorWeight, 1, 1);
+                addSpawn(spawns, currentBiome, INFECTED_BAT_ENTITY, (int) (config.InfectedMobWeight * 2.5), 1, 1);
             }
         }
 
@@ -265,10 +295,10 @@ public class EntityRegistry {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
                 if(currentBiome != Biomes.THE_END) {
-                    currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_BUILDER_ENTITY, 1, 1, 1));
-                    currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_MAGE_ENTITY, 1, 1, 1));
-                    currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_SPY_ENTITY, 1, 1, 1));
-                    currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_WARRIOR_ENTITY, 1, 1, 1));
+                    addSpawn(spawns, currentBiome, HEROBRINE_BUILDER_ENTITY, 1, 1, 1);
+                    addSpawn(spawns, currentBiome, HEROBRINE_MAGE_ENTITY, 1, 1, 1);
+                    addSpawn(spawns, currentBiome, HEROBRINE_SPY_ENTITY, 1, 1, 1);
+                    addSpawn(spawns, currentBiome, HEROBRINE_WARRIOR_ENTITY, 1, 1, 1);
                 }
             }
         }
@@ -276,12 +306,13 @@ public class EntityRegistry {
         for (BiomeDictionary.Type t : NetherTypes) {
             Set<Biome> biomes = BiomeDictionary.getBiomes(t);
             for (Biome currentBiome : biomes) {
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_BUILDER_ENTITY, Config.COMMON.HerobrineBuilderWeight.get() / 3, 1, 1));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_MAGE_ENTITY, Config.COMMON.HerobrineMageWeight.get() / 5, 1, 1));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_SPY_ENTITY, Config.COMMON.HerobrineSpyWeight.get() / 3, 1, 1));
-                currentBiome.getSpawns(EntityClassification.MONSTER).add(new Biome.SpawnListEntry(HEROBRINE_WARRIOR_ENTITY, Config.COMMON.HerobrineWarriorWeight.get() / 4, 1, 1));
+                addSpawn(spawns, currentBiome, HEROBRINE_BUILDER_ENTITY, config.HerobrineBuilderWeight / 3, 1, 1);
+                addSpawn(spawns, currentBiome, HEROBRINE_MAGE_ENTITY, config.HerobrineMageWeight / 5, 1, 1);
+                addSpawn(spawns, currentBiome, HEROBRINE_SPY_ENTITY, config.HerobrineSpyWeight / 3, 1, 1);
+                addSpawn(spawns, currentBiome, HEROBRINE_WARRIOR_ENTITY, config.HerobrineWarriorWeight / 4, 1, 1);
             }
         }
+        return spawns;
     }
 
     @NotNull
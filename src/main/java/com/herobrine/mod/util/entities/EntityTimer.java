@@ -0,0 +1,93 @@
+package com.herobrine.mod.util.entities;
+
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.world.server.ServerWorld;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+
+//A spell, build, heal or life timer of a mob, kept as an absolute game time deadline on the world's TimingWheel.
+//The mob does no work for it per tick, it starts the timer when it joins a server world and stops it when it leaves.
+//The deadline is saved with the mob. A repeating timer that was unloaded past its deadline runs once and then keeps its period, it never catches up.
+public class EntityTimer {
+    private final LivingEntity owner;
+    private final int delay;
+    private final boolean repeating;
+    private final Runnable callback;
+    //Game time the timer runs next, -1 until the mob first joins a server world.
+    private long deadline = -1L;
+    @Nullable
+    private TimingWheel.Timer scheduled;
+
+    private EntityTimer(LivingEntity owner, int delay, boolean repeating, Runnable callback) {
+        this.owner = owner;
+        this.delay = delay;
+        this.repeating = repeating;
+        this.callback = callback;
+    }
+
+    public static @NotNull EntityTimer once(@NotNull LivingEntity owner, int delay, @NotNull Runnable callback) {
+        return new EntityTimer(owner, delay, false, callback);
+    }
+
+    public static @NotNull EntityTimer repeating(@NotNull LivingEntity owner, int period, @NotNull Runnable callback) {
+        return new EntityTimer(owner, period, true, callback);
+    }
+
+    //Call from onAddedToWorld.
+    public void start() {
+        if (this.owner.world.isRemote) {
+            return;
+        }
+        this.stop();
+        if (this.deadline < 0L) {
+            this.deadline = this.owner.world.getGameTime() + this.delay;
+        }
+        this.scheduled = TimingWheel.get((ServerWorld) this.owner.world).schedule(this.deadline, this::run);
+    }
+
+    //Call from onRemovedFromWorld.
+    public void stop() {
+        if (this.scheduled != null) {
+            this.scheduled.cancel();
+            this.scheduled = null;
+        }
+    }
+
+    private void run() {
+        this.scheduled = null;
+        if (this.repeating) {
+            long now = this.owner.world.getGameTime();
+            this.deadline += this.delay;
+            if (this.deadline <= now) {
+                this.deadline = now + this.delay;
+            }
+            //Scheduled before the callback, so a callback that removes the mob also stops the next run.
+            this.scheduled = TimingWheel.get((ServerWorld) this.owner.world).schedule(this.deadline, this::run);
+        }
+        if (this.owner.isAlive()) {
+            this.callback.run();
+        }
+    }
+
+    //Saved as "<key>Deadline". The int "<key>" is the ticks left that older versions saved.
+    public void write(@NotNull CompoundNBT compound, @NotNull String key) {
+        if (this.deadline >= 0L) {
+            compound.putLong(key + "Deadline", this.deadline);
+        }
+    }
+
+    public void read(@NotNull CompoundNBT compound, @NotNull String key) {
+        if (compound.contains(key + "Deadline", 4)) {
+            this.deadline = compound.getLong(key + "Deadline");
+        } else if (compound.contains(key, 99)) {
+            int left = compound.getInt(key);
+            this.deadline = this.owner.world.getGameTime() + (left > 0 && left <= this.delay ? left : this.delay);
+        }
+        //Read into a mob that is already in the world, like with /data merge.
+        if (this.scheduled != null) {
+            this.start();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.herobrine.mod.util.entities;
+
+import com.herobrine.mod.HerobrineMod;
+import com.herobrine.mod.util.savedata.DimensionState;
+import com.herobrine.mod.util.savedata.HerobrineActivation;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+//Index of the live Herobrine and infected mobs in a server world, grouped by type and by chunk.
+//Every world keeps its own index in its DimensionState.
+//The mobs add and remove themselves when they join or leave a world, so the mod never has to scan the world for them.
+//When Herobrine stops being active every indexed mob is removed, a limited number per tick so a big purge is spread out.
+//Everything in here runs on the server thread, except requestPurge which a config reload calls from the config watcher thread.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class ModEntityIndex {
+    //Most mobs removed in one tick, over all worlds.
+    private static final int PURGE_PER_TICK = 256;
+    //Volatile as a config reload sets it from the config watcher thread, the server tick picks it up.
+    private static volatile boolean purging = false;
+    //Every type that was ever indexed, so chunk moves of all other entities are ignored without looking up the world's index.
+    private static final Set<EntityType<?>> indexedTypes = new HashSet<>();
+
+    private final Map<EntityType<?>, Long2ObjectMap<Set<Entity>>> byTypeAndChunk = new HashMap<>();
+    private final Map<Entity, Long> chunks = new HashMap<>();
+
+    public static void onAdded(@NotNull Entity entity) {
+        if (entity.world.isRemote) {
+            return;
+        }
+        //Mobs saved in chunks that were not loaded during the purge go as soon as they come back.
+        if (!HerobrineActivation.get().isActive()) {
+            entity.remove();
+            return;
+        }
+        indexedTypes.add(entity.getType());
+        get((ServerWorld) entity.world).add(entity, ChunkPos.asLong(entity.chunkCoordX, entity.chunkCoordZ));
+    }
+
+    public static void onRemoved(@NotNull Entity entity) {
+        if (entity.world.isRemote) {
+            return;
+        }
+        //The world's state is already gone when its last entities are removed while it unloads.
+        entity.world.getCapability(DimensionState.CAPABILITY).ifPresent(state -> state.getEntityIndex().remove(entity));
+    }
+
+    //Called when Herobrine stops being active.
+    public static void requestPurge() {
+        purging = true;
+    }
+
+    public static @NotNull ModEntityIndex get(@NotNull ServerWorld world) {
+        return DimensionState.get(world).getEntityIndex();
+    }
+
+    public int size() {
+        return this.chunks.size();
+    }
+
+    public Map<EntityType<?>, Integer> countByType() {
+        Map<EntityType<?>, Integer> counts = new HashMap<>();
+        for (Map.Entry<EntityType<?>, Long2ObjectMap<Set<Entity>>> entry : this.byTypeAndChunk.entrySet()) {
+            int count = 0;
+            for (Set<Entity> entities : entry.getValue().values()) {
+                count += entities.size();
+            }
+            counts.put(entry.getKey(), count);
+        }
+        return counts;
+    }
+
+    private void add(Entity entity, long chunk) {
+        Long previous = this.chunks.put(entity, chunk);
+        if (previous != null) {
+            this.removeFromChunk(entity, previous);
+        }
+        this.byTypeAndChunk.computeIfAbsent(entity.getType(), type -> new Long2ObjectOpenHashMap<>()).computeIfAbsent(chunk, key -> new HashSet<>()).add(entity);
+    }
+
+    private void remove(Entity entity) {
+        Long chunk = this.chunks.remove(entity);
+        if (chunk != null) {
+            this.removeFromChunk(entity, chunk);
+        }
+    }
+
+    private void removeFromChunk(Entity entity, long chunk) {
+        Long2ObjectMap<Set<Entity>> byChunk = this.byTypeAndChunk.get(entity.getType());
+        if (byChunk == null) {
+            return;
+        }
+        Set<Entity> entities = byChunk.get(chunk);
+        if (entities != null && entities.remove(entity) && entities.isEmpty()) {
+            byChunk.remove(chunk);
+            if (byChunk.isEmpty()) {
+                this.byTypeAndChunk.remove(entity.getType());
+            }
+        }
+    }
+
+    //Returns how many mobs were removed, the world drops them from the index when it ticks.
+    private int purge(int budget) {
+        int removed = 0;
+        for (Entity entity : this.chunks.keySet()) {
+            if (removed >= budget) {
+                break;
+            }
+            if (!entity.removed) {
+                entity.remove();
+                ++removed;
+            }
+        }
+        return removed;
+    }
+
+    @SubscribeEvent
+    public static void onEnteringChunk(EntityEvent.@NotNull EnteringChunk event) {
+        Entity entity = event.getEntity();
+        //The event also fires on the client thread in singleplayer, the type set may only be read on the server thread.
+        if (entity.world == null || entity.world.isRemote || !indexedTypes.contains(entity.getType())) {
+            return;
+        }
+        ModEntityIndex index = get((ServerWorld) entity.world);
+        if (index.chunks.containsKey(entity)) {
+            index.add(entity, ChunkPos.asLong(event.getNewChunkX(), event.getNewChunkZ()));
+        }
+    }
+
+    //Runs before the worlds tick, so everything removed here is gone by the end of this tick.
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.@NotNull ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || !purging) {
+            return;
+        }
+        if (HerobrineActivation.get().isActive()) {
+            purging = false;
+            return;
+        }
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return;
+        }
+        int budget = PURGE_PER_TICK;
+        for (ServerWorld world : server.getWorlds()) {
+            budget -= get(world).purge(budget);
+            if (budget <= 0) {
+                return;
+            }
+        }
+        //Nothing left that was not already removed.
+        purging = false;
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(FMLServerStoppedEvent event) {
+        purging = false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.herobrine.mod.util.entities;
+
+import com.herobrine.mod.HerobrineMod;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.NotNull;
+
+//Config reloads happen on the config watcher thread, so the spawn tables are only marked here
+//and recompiled at the start of the next server tick, before any world spawns mobs.
+//Structure weights need nothing like this, features read them from the config snapshot every time.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class SpawnTableReloader {
+    private static volatile boolean recompile = false;
+    private static int compiles = 0;
+
+    public static void requestRecompile() {
+        recompile = true;
+    }
+
+    public static int getCompiles() {
+        return compiles;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.@NotNull ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.START && recompile) {
+            recompile = false;
+            EntityRegistry.registerEntityWorldSpawns();
+            ++compiles;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.herobrine.mod.util.entities;
+
+import com.herobrine.mod.HerobrineMod;
+import com.herobrine.mod.entities.AbstractSurvivorEntity;
+import com.herobrine.mod.util.savedata.DimensionState;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.MobEntity;
+import net.minecraft.entity.monster.EndermanEntity;
+import net.minecraft.entity.monster.MonsterEntity;
+import net.minecraft.entity.monster.SlimeEntity;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.living.LivingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+//The survivors in a server world, grouped by 64 by 64 block region. Every world keeps its own registry in its DimensionState.
+//Survivors add and remove themselves when they join or leave a world and move between regions when they enter a new chunk.
+//Monsters without a target look up the nearest survivor in range on their own, every CHECK_INTERVAL ticks and whenever they enter a new region,
+//so a survivor costs nothing per tick however many monsters are around it.
+//Everything in here runs on the server thread.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class SurvivorRegistry {
+    //How far from a survivor monsters go after it, on every axis.
+    public static final double RANGE = 64.0D;
+    //Regions are 4 by 4 chunks, as wide as the range, so only the 3 by 3 regions around a monster can hold a survivor in range.
+    private static final int REGION_SHIFT = 2;
+    //How often a monster without a target looks for a survivor, in ticks.
+    private static final int CHECK_INTERVAL = 20;
+
+    private final Long2ObjectMap<Set<AbstractSurvivorEntity>> byRegion = new Long2ObjectOpenHashMap<>();
+    private final Map<AbstractSurvivorEntity, Long> regions = new HashMap<>();
+
+    public static void onAdded(@NotNull AbstractSurvivorEntity survivor) {
+        if (survivor.world.isRemote) {
+            return;
+        }
+        get((ServerWorld) survivor.world).add(survivor, region(survivor.chunkCoordX, survivor.chunkCoordZ));
+    }
+
+    public static void onRemoved(@NotNull AbstractSurvivorEntity survivor) {
+        if (survivor.world.isRemote) {
+            return;
+        }
+        //The world's state is already gone when its last entities are removed while it unloads.
+        survivor.world.getCapability(DimensionState.CAPABILITY).ifPresent(state -> state.getSurvivors().remove(survivor));
+    }
+
+    public static @NotNull SurvivorRegistry get(@NotNull ServerWorld world) {
+        return DimensionState.get(world).getSurvivors();
+    }
+
+    public int size() {
+        return this.regions.size();
+    }
+
+    //Nearest living survivor that is within RANGE of the entity on every axis.
+    @Nullable
+    public AbstractSurvivorEntity findNearest(@NotNull Entity entity) {
+        if (this.regions.isEmpty()) {
+            return null;
+        }
+        //From the position, as the chunk coords are not updated yet while an entity enters a new chunk.
+        int regionX = MathHelper.floor(entity.getPosX()) >> 4 >> REGION_SHIFT;
+        int regionZ = MathHelper.floor(entity.getPosZ()) >> 4 >> REGION_SHIFT;
+        AbstractSurvivorEntity nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int x = regionX - 1; x <= regionX + 1; ++x) {
+            for (int z = regionZ - 1; z <= regionZ + 1; ++z) {
+                Set<AbstractSurvivorEntity> survivors = this.byRegion.get(ChunkPos.asLong(x, z));
+                if (survivors == null) {
+                    continue;
+                }
+                for (AbstractSurvivorEntity survivor : survivors) {
+                    if (!survivor.isAlive() || !isInRange(survivor, entity)) {
+                        continue;
+                    }
+                    double distance = survivor.getDistanceSq(entity);
+                    if (distance < nearestDistance) {
+                        nearest = survivor;
+                        nearestDistance = distance;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private static boolean isInRange(@NotNull AbstractSurvivorEntity survivor, @NotNull Entity entity) {
+        return Math.abs(survivor.getPosX() - entity.getPosX()) <= RANGE && Math.abs(survivor.getPosY() - entity.getPosY()) <= RANGE && Math.abs(survivor.getPosZ() - entity.getPosZ()) <= RANGE;
+    }
+
+    private static long region(int chunkX, int chunkZ) {
+        return ChunkPos.asLong(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+    }
+
+    private void add(AbstractSurvivorEntity survivor, long region) {
+        Long previous = this.regions.put(survivor, region);
+        if (previous != null) {
+            this.removeFromRegion(survivor, previous);
+        }
+        this.byRegion.computeIfAbsent(region, key -> new HashSet<>()).add(survivor);
+    }
+
+    private void remove(AbstractSurvivorEntity survivor) {
+        Long region = this.regions.remove(survivor);
+        if (region != null) {
+            this.removeFromRegion(survivor, region);
+        }
+    }
+
+    private void removeFromRegion(AbstractSurvivorEntity survivor, long region) {
+        Set<AbstractSurvivorEntity> survivors = this.byRegion.get(region);
+        if (survivors != null && survivors.remove(survivor) && survivors.isEmpty()) {
+            this.byRegion.remove(region);
+        }
+    }
+
+    //The mobs that go after survivors, the same ones the survivors used to set as attackers themselves.
+    private static boolean isThreat(@NotNull Entity entity) {
+        return entity instanceof MonsterEntity && !(entity instanceof EndermanEntity) || entity instanceof SlimeEntity;
+    }
+
+    private static void targetNearest(@NotNull MobEntity mob) {
+        if (mob.getAttackTarget() != null) {
+            return;
+        }
+        AbstractSurvivorEntity survivor = get((ServerWorld) mob.world).findNearest(mob);
+        if (survivor != null) {
+            mob.setAttackTarget(survivor);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEnteringChunk(EntityEvent.@NotNull EnteringChunk event) {
+        Entity entity = event.getEntity();
+        if (entity.world == null || entity.world.isRemote) {
+            return;
+        }
+        long oldRegion = region(event.getOldChunkX(), event.getOldChunkZ());
+        long newRegion = region(event.getNewChunkX(), event.getNewChunkZ());
+        if (oldRegion == newRegion) {
+            return;
+        }
+        if (entity instanceof AbstractSurvivorEntity) {
+            SurvivorRegistry registry = get((ServerWorld) entity.world);
+            if (registry.regions.containsKey(entity)) {
+                registry.add((AbstractSurvivorEntity) entity, newRegion);
+            }
+        } else if (isThreat(entity)) {
+            targetNearest((MobEntity) entity);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLivingUpdate(LivingEvent.@NotNull LivingUpdateEvent event) {
+        LivingEntity entity = event.getEntityLiving();
+        if (entity.world.isRemote || !isThreat(entity)) {
+            return;
+        }
+        //Spread over the interval by entity id, so monsters loaded together don't all look in the same tick.
+        if ((entity.world.getGameTime() + entity.getEntityId()) % CHECK_INTERVAL == 0) {
+            targetNearest((MobEntity) entity);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.herobrine.mod.util.entities;
+
+import com.herobrine.mod.config.ConfigSnapshot;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.EntityPredicates;
+import org.jetbrains.annotations.NotNull;
+
+//Decides how much of its tick a Herobrine or infected mob runs, based on how close the nearest player is.
+//Full near players, with the AI only every other tick at mid range, and not at all further away, where only their wheel timers still run. Every mob keeps one of these.
+//The ranges come from the ActivationRanges config entry and can be set per mob type.
+public class TickActivation {
+    public enum Tier {
+        FULL,
+        REDUCED,
+        INACTIVE
+    }
+
+    //How often the nearest player is looked up again, in ticks.
+    private static final int CHECK_INTERVAL = 20;
+
+    private Tier tier = Tier.FULL;
+    private int nextCheck = 0;
+    private ConfigSnapshot resolvedFor;
+    private double fullRange;
+    private double reducedRange;
+
+    //Returns true if the mob should run its normal tick, false if it should only run inactiveTick.
+    public boolean shouldTick(@NotNull MobEntity mob) {
+        if (mob.world.isRemote) {
+            return true;
+        }
+        if (--this.nextCheck <= 0) {
+            //Spread the lookups so mobs spawned together do not all check in the same tick.
+            this.nextCheck = CHECK_INTERVAL + mob.getRNG().nextInt(4);
+            this.tier = this.findTier(mob);
+        }
+        return this.tier != Tier.INACTIVE;
+    }
+
+    //Returns true if the mob should run its AI this tick. Mobs at mid range can still be seen, so they move, fall and burn every tick and only think every other tick.
+    public boolean shouldRunAI(@NotNull MobEntity mob) {
+        return mob.world.isRemote || this.tier != Tier.REDUCED || (mob.ticksExisted & 1) == 0;
+    }
+
+    //Runs instead of tick when no player is close enough. Only time moves on, timers run on the world's TimingWheel anyway.
+    //The despawn check normally runs as part of the AI, it still runs here so mobs far from every player despawn like any other monster.
+    public static void inactiveTick(@NotNull MobEntity mob) {
+        ++mob.ticksExisted;
+        ++mob.idleTime;
+        mob.checkDespawn();
+    }
+
+    public Tier getTier() {
+        return this.tier;
+    }
+
+    private Tier findTier(@NotNull MobEntity mob) {
+        //A mob that is fighting, hurt or burning always ticks fully, wherever it is.
+        if (mob.getAttackTarget() != null || mob.hurtTime > 0 || mob.isBurning()) {
+            return Tier.FULL;
+        }
+        ConfigSnapshot config = ConfigSnapshot.get();
+        if (this.resolvedFor != config) {
+            ConfigSnapshot.ActivationRange range = config.ActivationRanges.get(EntityType.getKey(mob.getType()).toString());
+            if (range == null) {
+                range = config.ActivationRanges.getOrDefault("default", ConfigSnapshot.ActivationRange.ALWAYS);
+            }
+            this.fullRange = range.full;
+            this.reducedRange = range.reduced;
+            this.resolvedFor = config;
+        }
+        PlayerEntity player = mob.world.getClosestPlayer(mob.getPosX(), mob.getPosY(), mob.getPosZ(), this.reducedRange, EntityPredicates.NOT_SPECTATING);
+        if (player == null) {
+            return Tier.INACTIVE;
+        }
+        return mob.getDistanceSq(player) <= this.fullRange * this.fullRange ? Tier.FULL : Tier.REDUCED;
+    }
+}
@@ -0,0 +1,122 @@
+package com.herobrine.mod.util.entities;
+
+import com.herobrine.mod.HerobrineMod;
+import com.herobrine.mod.util.savedata.DimensionState;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//Hashed timing wheel of game time deadlines for one server world, every world keeps its own in its DimensionState.
+//A deadline goes into the slot picked by its tick, so a tick only looks at the one slot that can be due instead of every mob counting its timers down.
+//Deadlines more than one turn of the wheel away stay in their slot and are skipped until the turn they are due.
+//Everything in here runs on the server thread.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class TimingWheel {
+    //A power of two so the slot is the tick masked. Longer than most timers in the mod, so they are looked at once.
+    private static final int SLOTS = 1024;
+    private static final int MASK = SLOTS - 1;
+
+    private final List<List<Timer>> slots = new ArrayList<>(SLOTS);
+    private final List<Timer> due = new ArrayList<>();
+    //The last tick that was run, deadlines at or before it are run in the next one.
+    private long time;
+    private int pending = 0;
+    private long fired = 0;
+
+    public TimingWheel(long time) {
+        this.time = time;
+        for (int i = 0; i < SLOTS; ++i) {
+            this.slots.add(new ArrayList<>());
+        }
+    }
+
+    public static @NotNull TimingWheel get(@NotNull ServerWorld world) {
+        return DimensionState.get(world).getTimers();
+    }
+
+    public @NotNull Timer schedule(long deadline, @NotNull Runnable callback) {
+        Timer timer = new Timer(Math.max(deadline, this.time + 1L), callback);
+        this.slots.get((int) (timer.deadline & MASK)).add(timer);
+        ++this.pending;
+        return timer;
+    }
+
+    public int getPending() {
+        return this.pending;
+    }
+
+    public long getFired() {
+        return this.fired;
+    }
+
+    private void advance(long now) {
+        if (now <= this.time) {
+            return;
+        }
+        //After a jump of a whole turn or more every slot is looked at once.
+        long from = Math.max(this.time + 1L, now - MASK);
+        this.time = now;
+        for (long tick = from; tick <= now; ++tick) {
+            List<Timer> slot = this.slots.get((int) (tick & MASK));
+            for (int i = slot.size() - 1; i >= 0; --i) {
+                Timer timer = slot.get(i);
+                if (timer.done || timer.deadline <= now) {
+                    int last = slot.size() - 1;
+                    slot.set(i, slot.get(last));
+                    slot.remove(last);
+                    if (!timer.done) {
+                        this.due.add(timer);
+                    }
+                }
+            }
+        }
+        //Callbacks run after the slots are walked, so they can schedule again without touching a slot that is being walked.
+        for (Timer timer : this.due) {
+            if (!timer.done) {
+                timer.done = true;
+                --this.pending;
+                ++this.fired;
+                timer.callback.run();
+            }
+        }
+        this.due.clear();
+    }
+
+    //Runs after the world ticked its entities, so everything they scheduled this tick is already in.
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.@NotNull WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.side != LogicalSide.SERVER) {
+            return;
+        }
+        get((ServerWorld) event.world).advance(event.world.getGameTime());
+    }
+
+    public class Timer {
+        private final long deadline;
+        private final Runnable callback;
+        private boolean done = false;
+
+        private Timer(long deadline, Runnable callback) {
+            this.deadline = deadline;
+            this.callback = callback;
+        }
+
+        public long getDeadline() {
+            return this.deadline;
+        }
+
+        //The timer is dropped from its slot the next time the slot is walked.
+        public void cancel() {
+            if (!this.done) {
+                this.done = true;
+                --TimingWheel.this.pending;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.herobrine.mod.util.network;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+//Several mod messages for the same player packed into one packet by the outbound queue.
+//Every message is written as a VarInt type id followed by its own encoding, the ids come from the order of registration.
+public class MessageBundle {
+    private static final List<Codec<?>> codecs = new ArrayList<>();
+    private static final Map<Class<?>, Codec<?>> codecsByType = new HashMap<>();
+
+    private static class Codec<T> {
+        private final int id;
+        private final BiConsumer<T, PacketBuffer> encoder;
+        private final Function<PacketBuffer, T> decoder;
+        private final BiConsumer<T, Supplier<NetworkEvent.Context>> handler;
+
+        private Codec(int id, BiConsumer<T, PacketBuffer> encoder, Function<PacketBuffer, T> decoder, BiConsumer<T, Supplier<NetworkEvent.Context>> handler) {
+            this.id = id;
+            this.encoder = encoder;
+            this.decoder = decoder;
+            this.handler = handler;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void encode(Object message, PacketBuffer buffer) {
+            this.encoder.accept((T) message, buffer);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void handle(Object message, Supplier<NetworkEvent.Context> contextSupplier) {
+            this.handler.accept((T) message, contextSupplier);
+        }
+    }
+
+    public static <T> void register(Class<T> messageType, BiConsumer<T, PacketBuffer> encoder, Function<PacketBuffer, T> decoder, BiConsumer<T, Supplier<NetworkEvent.Context>> handler) {
+        Codec<T> codec = new Codec<>(codecs.size(), encoder, decoder, handler);
+        codecs.add(codec);
+        codecsByType.put(messageType, codec);
+    }
+
+    private final List<Object> messages;
+
+    public MessageBundle(List<Object> messages) {
+        this.messages = messages;
+    }
+
+    public MessageBundle(@NotNull PacketBuffer buffer) {
+        int size = buffer.readVarInt();
+        this.messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int id = buffer.readVarInt();
+            if (id < 0 || id >= codecs.size()) {
+                throw new IllegalStateException("[The Legend of Herobrine] Unknown message id " + id + " in a message bundle.");
+            }
+            this.messages.add(codecs.get(id).decoder.apply(buffer));
+        }
+    }
+
+    public static void buffer(@NotNull MessageBundle bundle, @NotNull PacketBuffer buffer) {
+        buffer.writeVarInt(bundle.messages.size());
+        for (Object message : bundle.messages) {
+            Codec<?> codec = codecsByType.get(message.getClass());
+            buffer.writeVarInt(codec.id);
+            codec.encode(message, buffer);
+        }
+    }
+
+    //Every message keeps its own handler, they are handled in the order they were queued.
+    public static void handler(@NotNull MessageBundle bundle, @NotNull Supplier<NetworkEvent.Context> contextSupplier) {
+        for (Object message : bundle.messages) {
+            codecsByType.get(message.getClass()).handle(message, contextSupplier);
+        }
+        contextSupplier.get().setPacketHandled(true);
+    }
+}
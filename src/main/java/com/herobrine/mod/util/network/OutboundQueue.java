@@ -0,0 +1,93 @@
+package com.herobrine.mod.util.network;
+
+import com.herobrine.mod.HerobrineMod;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
+import net.minecraftforge.fml.network.PacketDistributor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+
+//Collects mod messages during a server tick and sends them at the very end of it, one packet per player.
+//Message types registered as coalescing keep only one queued message per player, the newest one merged with the older.
+//Everything in here runs on the server thread.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class OutboundQueue {
+    private static final Map<ServerPlayerEntity, Map<Object, Object>> pending = new LinkedHashMap<>();
+    private static final Map<Class<?>, BinaryOperator<Object>> coalescing = new HashMap<>();
+    private static final AtomicLong coalesced = new AtomicLong();
+    private static final AtomicLong packets = new AtomicLong();
+
+    //The merge gets the older queued message first and the newer one second.
+    @SuppressWarnings("unchecked")
+    public static <T> void registerCoalescing(Class<T> messageType, BinaryOperator<T> merge) {
+        coalescing.put(messageType, (older, newer) -> merge.apply((T) older, (T) newer));
+    }
+
+    static void enqueue(@NotNull ServerPlayerEntity player, @NotNull Object message) {
+        Map<Object, Object> messages = pending.computeIfAbsent(player, key -> new LinkedHashMap<>());
+        BinaryOperator<Object> merge = coalescing.get(message.getClass());
+        if (merge == null) {
+            //Not coalescing, the message is its own key so it can never replace anything.
+            messages.put(message, message);
+            return;
+        }
+        Object older = messages.remove(message.getClass());
+        if (older != null) {
+            coalesced.incrementAndGet();
+            message = merge.apply(older, message);
+        }
+        //Removed and put again so the merged message takes the place of the newest one.
+        messages.put(message.getClass(), message);
+    }
+
+    //Runs after every other end of tick handler so nothing queued this tick is left behind.
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onServerTick(TickEvent.@NotNull ServerTickEvent event) {
+        if (event.phase == TickEvent.Phase.END) {
+            flush();
+        }
+    }
+
+    public static void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<ServerPlayerEntity, Map<Object, Object>> entry : pending.entrySet()) {
+            ServerPlayerEntity player = entry.getKey();
+            Map<Object, Object> messages = entry.getValue();
+            Object packet = messages.size() == 1 ? messages.values().iterator().next() : new MessageBundle(new ArrayList<>(messages.values()));
+            packets.incrementAndGet();
+            HerobrineMod.PACKET_HANDLER.send(PacketDistributor.PLAYER.with(() -> player), packet);
+        }
+        pending.clear();
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.@NotNull PlayerLoggedOutEvent event) {
+        pending.keySet().removeIf(player -> player.getUniqueID().equals(event.getPlayer().getUniqueID()));
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(FMLServerStoppedEvent event) {
+        pending.clear();
+    }
+
+    public static long getCoalesced() {
+        return coalesced.get();
+    }
+
+    public static long getPackets() {
+        return packets.get();
+    }
+}
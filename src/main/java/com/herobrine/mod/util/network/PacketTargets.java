@@ -0,0 +1,33 @@
+package com.herobrine.mod.util.network;
+
+import net.minecraft.entity.player.ServerPlayerEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+//Sends mod messages to single players and counts them for the tracker command.
+//The only message so far is the world vars, which every player needs, so the senders pick their players themselves
+//and skip the ones that are already up to date. Those skipped sends are counted as avoided.
+public class PacketTargets {
+    private static final AtomicLong sent = new AtomicLong();
+    private static final AtomicLong avoided = new AtomicLong();
+
+    //Queued, the message goes out with everything else for this player at the end of the tick.
+    public static void sendToPlayer(@NotNull ServerPlayerEntity player, Object message) {
+        sent.incrementAndGet();
+        OutboundQueue.enqueue(player, message);
+    }
+
+    //For players that turned out not to need the message.
+    public static void recordAvoided() {
+        avoided.incrementAndGet();
+    }
+
+    public static long getSent() {
+        return sent.get();
+    }
+
+    public static long getAvoided() {
+        return avoided.get();
+    }
+}
@@ -0,0 +1,115 @@
+package com.herobrine.mod.util.savedata;
+
+import com.herobrine.mod.HerobrineMod;
+import com.herobrine.mod.util.entities.ModEntityIndex;
+import com.herobrine.mod.util.entities.SurvivorRegistry;
+import com.herobrine.mod.util.entities.TimingWheel;
+import net.minecraft.nbt.INBT;
+import net.minecraft.util.Direction;
+import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+//Mod state that belongs to one server dimension, attached to its ServerWorld as a capability.
+//It is only created the first time something asks for it, and then lives exactly as long as the world.
+//The global world vars are looked up once and kept here, so the Nether and the End never go through the overworld's storage again.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class DimensionState {
+    @CapabilityInject(DimensionState.class)
+    public static Capability<DimensionState> CAPABILITY = null;
+    //The attached states by world, so they can be invalidated when their world unloads.
+    private static final Map<ServerWorld, LazyOptional<DimensionState>> attached = new IdentityHashMap<>();
+
+    private final ServerWorld world;
+    private final ModEntityIndex entityIndex = new ModEntityIndex();
+    private final SurvivorRegistry survivors = new SurvivorRegistry();
+    private final TimingWheel timers;
+    private Variables.SaveData global;
+
+    private DimensionState(ServerWorld world) {
+        this.world = world;
+        this.timers = new TimingWheel(world.getGameTime());
+    }
+
+    public static @NotNull DimensionState get(@NotNull ServerWorld world) {
+        return world.getCapability(CAPABILITY).orElseThrow(() -> new IllegalStateException("[The Legend of Herobrine] No dimension state attached to " + world.getDimension().getType() + ". Please report this to the issue tracker."));
+    }
+
+    //The world vars shared by every dimension, they are stored with the overworld.
+    public @NotNull Variables.SaveData getGlobal() {
+        if (this.global == null) {
+            this.global = this.world.getServer().getWorld(DimensionType.OVERWORLD).getSavedData().getOrCreate(Variables.SaveData::new, Variables.SaveData.DATA_NAME);
+        }
+        return this.global;
+    }
+
+    public @NotNull ModEntityIndex getEntityIndex() {
+        return this.entityIndex;
+    }
+
+    public @NotNull SurvivorRegistry getSurvivors() {
+        return this.survivors;
+    }
+
+    public @NotNull TimingWheel getTimers() {
+        return this.timers;
+    }
+
+    //The state needs its world, so there is no default instance. It is only ever created in onAttachCapabilities.
+    public static void register() {
+        CapabilityManager.INSTANCE.register(DimensionState.class, new Capability.IStorage<DimensionState>() {
+            //Nothing in here is saved with the world, saved state goes through SaveDataWriter.
+            @Nullable
+            @Override
+            public INBT writeNBT(Capability<DimensionState> capability, DimensionState instance, Direction side) {
+                return null;
+            }
+
+            @Override
+            public void readNBT(Capability<DimensionState> capability, DimensionState instance, Direction side, INBT nbt) {
+            }
+        }, () -> null);
+    }
+
+    @SubscribeEvent
+    public static void onAttachCapabilities(@NotNull AttachCapabilitiesEvent<World> event) {
+        if (!(event.getObject() instanceof ServerWorld)) {
+            return;
+        }
+        ServerWorld world = (ServerWorld) event.getObject();
+        LazyOptional<DimensionState> state = LazyOptional.of(() -> new DimensionState(world));
+        attached.put(world, state);
+        event.addCapability(HerobrineMod.location("dimension_state"), new ICapabilityProvider() {
+            @Override
+            public @NotNull <T> LazyOptional<T> getCapability(@NotNull Capability<T> capability, @Nullable Direction side) {
+                return capability == CAPABILITY ? state.cast() : LazyOptional.empty();
+            }
+        });
+    }
+
+    //Lets go of the entity index, survivor registry and timers of an unloaded world, anything still holding the optional sees it as empty.
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.@NotNull Unload event) {
+        if (!(event.getWorld() instanceof ServerWorld)) {
+            return;
+        }
+        LazyOptional<DimensionState> state = attached.remove(event.getWorld());
+        if (state != null) {
+            state.invalidate();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.herobrine.mod.util.savedata;
+
+import com.herobrine.mod.HerobrineMod;
+import com.herobrine.mod.config.ConfigSnapshot;
+import com.herobrine.mod.util.entities.ModEntityIndex;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+//Immutable snapshot of whether Herobrine and infected mobs may exist on the running server.
+//Spawn checks read this through one atomic reference instead of looking up the saved data and the config every time.
+//It is only rebuilt when the altar state or the config changes. The altar changes on the server thread and the config on the config watcher thread,
+//so every change is applied with a compare and set, one of them can't undo the other.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public final class HerobrineActivation {
+    private static final AtomicReference<HerobrineActivation> current = new AtomicReference<>(new HerobrineActivation(false, false));
+
+    private final boolean altarActivated;
+    private final boolean alwaysSpawns;
+    private final boolean active;
+
+    private HerobrineActivation(boolean altarActivated, boolean alwaysSpawns) {
+        this.altarActivated = altarActivated;
+        this.alwaysSpawns = alwaysSpawns;
+        this.active = altarActivated || alwaysSpawns;
+    }
+
+    public static HerobrineActivation get() {
+        return current.get();
+    }
+
+    //True if the altar is activated or the config lets Herobrine spawn anyway.
+    public boolean isActive() {
+        return this.active;
+    }
+
+    public boolean isAltarActivated() {
+        return this.altarActivated;
+    }
+
+    public boolean isAlwaysSpawns() {
+        return this.alwaysSpawns;
+    }
+
+    static void onAltarChanged(boolean altarActivated) {
+        update(snapshot -> snapshot.altarActivated == altarActivated ? snapshot : new HerobrineActivation(altarActivated, snapshot.alwaysSpawns));
+    }
+
+    public static void onConfigChanged() {
+        boolean alwaysSpawns = ConfigSnapshot.get().HerobrineAlwaysSpawns;
+        update(snapshot -> snapshot.alwaysSpawns == alwaysSpawns ? snapshot : new HerobrineActivation(snapshot.altarActivated, alwaysSpawns));
+    }
+
+    //The change returns the snapshot it was given if there is nothing to change.
+    //Mobs no longer check this every tick, so turning Herobrine off has to remove them.
+    private static void update(@NotNull UnaryOperator<HerobrineActivation> change) {
+        HerobrineActivation previous;
+        HerobrineActivation next;
+        do {
+            previous = current.get();
+            next = change.apply(previous);
+        } while (next != previous && !current.compareAndSet(previous, next));
+        if (previous.active && !next.active) {
+            ModEntityIndex.requestPurge();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.@NotNull Load event) {
+        if (event.getWorld() instanceof ServerWorld && event.getWorld().getDimension().getType() == DimensionType.OVERWORLD) {
+            onAltarChanged(Variables.SaveData.get(event.getWorld().getWorld()).Spawn);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(FMLServerStoppedEvent event) {
+        //Only forget the altar for the next world, the mobs are gone with the server so no purge is requested.
+        current.updateAndGet(snapshot -> new HerobrineActivation(false, snapshot.alwaysSpawns));
+    }
+}
@@ -0,0 +1,95 @@
+package com.herobrine.mod.util.savedata;
+
+import com.herobrine.mod.HerobrineMod;
+import com.herobrine.mod.util.network.PacketTargets;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+//Sends the world vars to clients once at the end of a server tick, and only if they actually changed.
+//Nothing in here should ever be called from an entity tick.
+//The version each player was last sent is remembered, so every player only gets the fields it is missing,
+//and a player that is already up to date gets nothing at all.
+//The world vars are the same in every dimension, so a change goes to every player on the server.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class SaveDataSync {
+    private static final Map<UUID, Integer> knownVersions = new HashMap<>();
+    private static boolean changed = false;
+
+    static void markChanged() {
+        changed = true;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.@NotNull ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !changed) {
+            return;
+        }
+        changed = false;
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return;
+        }
+        Variables.SaveData data = Variables.SaveData.get(server.getWorld(DimensionType.OVERWORLD));
+        for (ServerPlayerEntity player : server.getPlayerList().getPlayers()) {
+            sendTo(player, data);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedIn(PlayerEvent.@NotNull PlayerLoggedInEvent event) {
+        //A new connection always starts from an empty client copy.
+        knownVersions.remove(event.getPlayer().getUniqueID());
+        sendTo(event.getPlayer());
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.@NotNull PlayerLoggedOutEvent event) {
+        knownVersions.remove(event.getPlayer().getUniqueID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(FMLServerStoppedEvent event) {
+        changed = false;
+        knownVersions.clear();
+    }
+
+    private static void sendTo(PlayerEntity player) {
+        if (player instanceof ServerPlayerEntity) {
+            sendTo((ServerPlayerEntity) player, Variables.SaveData.get(player.world));
+        }
+    }
+
+    private static void sendTo(ServerPlayerEntity player, Variables.SaveData data) {
+        Integer known = knownVersions.get(player.getUniqueID());
+        int knownVersion = known == null ? -1 : known;
+        if (knownVersion == data.getVersion()) {
+            PacketTargets.recordAvoided();
+            return;
+        }
+        knownVersions.put(player.getUniqueID(), data.getVersion());
+        PacketTargets.sendToPlayer(player, new Variables.WorldSavedDataSyncMessage(data, knownVersion));
+    }
+
+    @Mod.EventBusSubscriber(modid = HerobrineMod.MODID, value = Dist.CLIENT)
+    public static class ClientEvents {
+        @SubscribeEvent
+        public static void onLoggedOut(ClientPlayerNetworkEvent.@NotNull LoggedOutEvent event) {
+            Variables.SaveData.clientSide = Variables.SaveData.createClientSide();
+        }
+    }
+}
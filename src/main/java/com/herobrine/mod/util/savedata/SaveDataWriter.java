@@ -0,0 +1,124 @@
+package com.herobrine.mod.util.savedata;
+
+import com.herobrine.mod.HerobrineMod;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.util.SharedConstants;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+//Writes the world vars on a background thread, so an autosave never waits for mod data.
+//On a world save an NBT snapshot of the data is taken on the server thread and handed to the writer, nothing touches it after that.
+//If a newer snapshot for the same file arrives before the old one was written, only the newer one is written.
+//Files are written to a temp file first and then moved over the old one, so a crash never leaves half a file behind.
+//A write that fails runs the failure callback it was handed with, so the data is written again on the next save instead of being taken as saved.
+//The files have the same layout vanilla uses, so SaveData still loads through getOrCreate.
+@Mod.EventBusSubscriber(modid = HerobrineMod.MODID)
+public class SaveDataWriter {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Map<File, Pending> pending = new HashMap<>();
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Herobrine data writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @SubscribeEvent
+    public static void onWorldSave(WorldEvent.@NotNull Save event) {
+        if (!(event.getWorld() instanceof ServerWorld) || event.getWorld().getDimension().getType() != DimensionType.OVERWORLD) {
+            return;
+        }
+        ServerWorld world = (ServerWorld) event.getWorld();
+        Variables.SaveData data = Variables.SaveData.get(world);
+        CompoundNBT snapshot = data.takeSnapshot();
+        if (snapshot != null) {
+            int version = data.getVersion();
+            write(getDataFile(world, Variables.SaveData.DATA_NAME), snapshot, () -> data.onSaveFailed(version));
+        }
+    }
+
+    //Worlds are saved before this, so all that is left is waiting for the writer.
+    @SubscribeEvent
+    public static void onServerStopped(FMLServerStoppedEvent event) {
+        flush();
+    }
+
+    public static @NotNull File getDataFile(@NotNull ServerWorld world, String name) {
+        File dimensionDirectory = world.getDimension().getType().getDirectory(world.getSaveHandler().getWorldDirectory());
+        return new File(new File(dimensionDirectory, "data"), name + ".dat");
+    }
+
+    //The failure callback runs on the writer thread. It is dropped together with the snapshot if a newer one replaces it before it was written.
+    public static void write(File file, CompoundNBT data, Runnable onFailure) {
+        CompoundNBT root = new CompoundNBT();
+        root.put("data", data);
+        root.putInt("DataVersion", SharedConstants.getVersion().getWorldVersion());
+        boolean queued;
+        synchronized (pending) {
+            queued = pending.put(file, new Pending(root, onFailure)) != null;
+        }
+        //A write for this file is already queued and will pick up the newer snapshot.
+        if (!queued) {
+            executor.execute(() -> writePending(file));
+        }
+    }
+
+    //Blocks until everything handed to the writer so far is on disk.
+    public static void flush() {
+        try {
+            executor.submit(() -> {}).get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            LOGGER.error("[The Legend of Herobrine] Timed out waiting for world data to be written.", e);
+        }
+    }
+
+    private static void writePending(File file) {
+        Pending write;
+        synchronized (pending) {
+            write = pending.remove(file);
+        }
+        if (write == null) {
+            return;
+        }
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+            try (OutputStream stream = new FileOutputStream(temp)) {
+                CompressedStreamTools.writeCompressed(write.root, stream);
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("[The Legend of Herobrine] Could not save " + file, e);
+            write.onFailure.run();
+        }
+    }
+
+    private static final class Pending {
+        private final CompoundNBT root;
+        private final Runnable onFailure;
+
+        private Pending(CompoundNBT root, Runnable onFailure) {
+            this.root = root;
+            this.onFailure = onFailure;
+        }
+    }
+}
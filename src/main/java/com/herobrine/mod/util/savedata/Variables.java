@@ -1,29 +1,76 @@
 package com.herobrine.mod.util.savedata;
 
-import com.herobrine.mod.HerobrineMod;
-import net.minecraft.client.Minecraft;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.world.World;
-import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraft.world.storage.WorldSavedData;
-import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.network.NetworkEvent;
-import net.minecraftforge.fml.network.PacketDistributor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 public class Variables {
     public static class SaveData extends WorldSavedData {
         public static final String DATA_NAME = "herobrine_worldvars";
         public boolean Spawn = false;
+        //Field bits used by the sync message to say which values are included.
+        public static final int SPAWN_FIELD = 1;
+        //Bumped on every real change so the sync service can tell if clients are behind. Not saved to disk.
+        //Server side data starts at 1 so a client that has never been synced (version 0) is always behind.
+        private int version = 1;
+        private int spawnVersion = 1;
+        //The version last handed to SaveDataWriter, set back by the writer thread when that write fails so the next save tries again.
+        //The data is never marked dirty, vanilla does not save it.
+        private final AtomicInteger savedVersion = new AtomicInteger(1);
         public SaveData() {
             super(DATA_NAME);
         }
 
+        public int getVersion() {
+            return this.version;
+        }
+
+        //Returns the field bits that changed after the given version, -1 means the client knows nothing.
+        public int getChangedSince(int knownVersion) {
+            int changed = 0;
+            if (this.spawnVersion > knownVersion) {
+                changed |= SPAWN_FIELD;
+            }
+            return changed;
+        }
+
+        //Server side only, the client copy is only ever changed by sync messages.
+        //Returns true only if the value actually changed, only then it is saved and synced.
+        public boolean setSpawn(boolean spawn) {
+            if (this.Spawn == spawn) {
+                return false;
+            }
+            this.Spawn = spawn;
+            if (this != clientSide) {
+                this.spawnVersion = ++this.version;
+                HerobrineActivation.onAltarChanged(this.Spawn);
+                SaveDataSync.markChanged();
+            }
+            return true;
+        }
+
+        //Returns null if nothing changed since the last snapshot.
+        public @Nullable CompoundNBT takeSnapshot() {
+            if (this.savedVersion.getAndSet(this.version) == this.version) {
+                return null;
+            }
+            return this.write(new CompoundNBT());
+        }
+
+        //Called on the writer thread when the snapshot of this version could not be written.
+        //A newer snapshot taken in the meantime is left alone, it is written or fails on its own.
+        void onSaveFailed(int failedVersion) {
+            this.savedVersion.compareAndSet(failedVersion, 0);
+        }
+
         @Override
         public void read(@NotNull CompoundNBT nbt) {
             Spawn = nbt.getBoolean("Spawn");
@@ -35,61 +82,85 @@ public class Variables {
             return nbt;
         }
 
-        public void syncData(@NotNull World world) {
-            this.markDirty();
-            if (world.isRemote) {
-                HerobrineMod.PACKET_HANDLER.sendToServer(new WorldSavedDataSyncMessage(this));
-            } else {
-                HerobrineMod.PACKET_HANDLER.send(PacketDistributor.ALL.noArg(), new WorldSavedDataSyncMessage(this));
-            }
+        static SaveData clientSide = createClientSide();
+
+        //The client copy only moves forward through sync messages, so it starts behind every server.
+        static SaveData createClientSide() {
+            SaveData data = new SaveData();
+            data.version = 0;
+            data.spawnVersion = 0;
+            return data;
         }
-        static SaveData clientSide = new SaveData();
+
         public static SaveData get(World world) {
             if (world instanceof ServerWorld) {
-                return Objects.requireNonNull(world.getServer()).getWorld(DimensionType.OVERWORLD).getSavedData().getOrCreate(SaveData::new, DATA_NAME);
+                return DimensionState.get((ServerWorld) world).getGlobal();
             } else {
                 return clientSide;
             }
         }
     }
 
+    //Binary delta of the world vars: a VarInt version, a byte of field bits saying which values follow, then the values.
+    //Boolean values are packed into one byte of bits, so a sync is only a few bytes and never builds an NBT tree.
     public static class WorldSavedDataSyncMessage {
-        public WorldSavedData data;
+        public final int version;
+        public final int changed;
+        public final boolean spawn;
         public WorldSavedDataSyncMessage(@NotNull PacketBuffer buffer) {
-            this.data = new SaveData();
-            this.data.read(Objects.requireNonNull(buffer.readCompoundTag()));
+            this.version = buffer.readVarInt();
+            this.changed = buffer.readUnsignedByte();
+            int flags = (this.changed & SaveData.SPAWN_FIELD) != 0 ? buffer.readUnsignedByte() : 0;
+            this.spawn = (flags & SaveData.SPAWN_FIELD) != 0;
         }
 
-        public WorldSavedDataSyncMessage(WorldSavedData data) {
-            this.data = data;
+        //Only includes what changed after knownVersion, use -1 to send everything.
+        public WorldSavedDataSyncMessage(@NotNull SaveData data, int knownVersion) {
+            this.version = data.getVersion();
+            this.changed = data.getChangedSince(knownVersion);
+            this.spawn = data.Spawn;
+        }
+
+        private WorldSavedDataSyncMessage(int version, int changed, boolean spawn) {
+            this.version = version;
+            this.changed = changed;
+            this.spawn = spawn;
+        }
+
+        //Two deltas queued for the same player in one tick become one, fields in the newer one win.
+        public static @NotNull WorldSavedDataSyncMessage merge(@NotNull WorldSavedDataSyncMessage older, @NotNull WorldSavedDataSyncMessage newer) {
+            boolean spawn = (newer.changed & SaveData.SPAWN_FIELD) != 0 ? newer.spawn : older.spawn;
+            return new WorldSavedDataSyncMessage(newer.version, older.changed | newer.changed, spawn);
         }
 
         public static void buffer(@NotNull WorldSavedDataSyncMessage message, @NotNull PacketBuffer buffer) {
-            buffer.writeCompoundTag(message.data.write(new CompoundNBT()));
+            buffer.writeVarInt(message.version);
+            buffer.writeByte(message.changed);
+            if ((message.changed & SaveData.SPAWN_FIELD) != 0) {
+                buffer.writeByte(message.spawn ? SaveData.SPAWN_FIELD : 0);
+            }
         }
 
+        //Server to client only. The server owns the world vars and never takes them from a client.
         public static void handler(WorldSavedDataSyncMessage message, @NotNull Supplier<NetworkEvent.Context> contextSupplier) {
             NetworkEvent.Context context = contextSupplier.get();
-            context.enqueueWork(() -> {
-                if (context.getDirection().getReceptionSide().isServer())
-                    syncData(message, context.getDirection().getReceptionSide(), Objects.requireNonNull(context.getSender()).world);
-                else {
-                    assert Minecraft.getInstance().player != null;
-                    syncData(message, context.getDirection().getReceptionSide(), Minecraft.getInstance().player.world);
-                }
-            });
+            if (context.getDirection().getReceptionSide().isClient()) {
+                context.enqueueWork(() -> syncData(message));
+            }
             context.setPacketHandled(true);
         }
 
-        private static void syncData(WorldSavedDataSyncMessage message, @NotNull LogicalSide side, World world) {
-            if (side.isServer()) {
-                message.data.markDirty();
-                HerobrineMod.PACKET_HANDLER.send(PacketDistributor.ALL.noArg(), message);
-                Objects.requireNonNull(world.getServer()).getWorld(DimensionType.OVERWORLD).getSavedData().set(message.data);
-
-            } else {
-                SaveData.clientSide = (SaveData) message.data;
+        private static void syncData(@NotNull WorldSavedDataSyncMessage message) {
+            SaveData data = SaveData.clientSide;
+            //Stale or repeated versions are ignored, the client only ever moves forward.
+            if (message.version <= data.version) {
+                return;
+            }
+            if ((message.changed & SaveData.SPAWN_FIELD) != 0) {
+                data.Spawn = message.spawn;
+                data.spawnVersion = message.version;
             }
+            data.version = message.version;
         }
     }
-}
+}
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.herobrine.mod.worldgen.structures;
 
 import com.herobrine.mod.HerobrineMod;
-import com.herobrine.mod.config.Config;
+import com.herobrine.mod.config.ConfigSnapshot;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.Mirror;
@@ -34,7 +34,7 @@ public class Statue {
             public boolean place(@NotNull IWorld iworld, @NotNull ChunkGenerator generator, @NotNull Random random, @NotNull BlockPos pos, @NotNull NoFeatureConfig config) {
                 int ci = pos.getX();
                 int ck = pos.getZ();
-                if ((random.nextInt(1000000) + 1) <= Config.COMMON.HerobrineStatueWeight.get()) {
+                if ((random.nextInt(1000000) + 1) <= ConfigSnapshot.get().HerobrineStatueWeight) {
                     int count = random.nextInt(1) + 1;
                     for (int a = 0; a < count; a++) {
                         int i = ci + random.nextInt(16) + 8;